@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jrubyscripting.internal;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.jruby.embed.jsr223.JRubyEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a number of pre-booted {@link JRubyEngine}s, whose Ruby runtime has already been initialized and whose Ruby
+ * environment has already been configured, so that loading a script does not have to wait for a new runtime to boot.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JRubyRuntimePool {
+    private final Logger logger = LoggerFactory.getLogger(JRubyRuntimePool.class);
+
+    private final Supplier<JRubyEngine> engineSupplier;
+    private final ExecutorService executor;
+    private final int size;
+
+    private final Deque<JRubyEngine> engines = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile boolean disposed = false;
+
+    /**
+     * @param engineSupplier creates a new engine with a booted and configured Ruby runtime
+     * @param size the number of engines to keep ready
+     * @param executor the executor to boot engines on
+     */
+    public JRubyRuntimePool(Supplier<JRubyEngine> engineSupplier, int size, ExecutorService executor) {
+        this.engineSupplier = engineSupplier;
+        this.size = size;
+        this.executor = executor;
+        scheduleRefill();
+    }
+
+    /**
+     * Takes a pre-booted engine from the pool, or boots a new one on the calling thread if the pool is empty.
+     */
+    public JRubyEngine acquire() {
+        JRubyEngine engine = engines.pollFirst();
+        if (engine != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            engine = engineSupplier.get();
+        }
+        logger.debug("Ruby runtime pool: {} of {} runtimes ready, {} hits, {} misses", engines.size(), size,
+                hits.get(), misses.get());
+        scheduleRefill();
+        return engine;
+    }
+
+    /**
+     * Stops refilling and discards all pre-booted engines.
+     */
+    public void dispose() {
+        disposed = true;
+        JRubyEngine engine;
+        while ((engine = engines.pollFirst()) != null) {
+            terminate(engine);
+        }
+    }
+
+    private void scheduleRefill() {
+        if (!disposed && engines.size() < size && refillScheduled.compareAndSet(false, true)) {
+            executor.execute(this::refill);
+        }
+    }
+
+    private void refill() {
+        try {
+            while (!disposed && engines.size() < size) {
+                engines.offerLast(engineSupplier.get());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to boot Ruby runtime: {}", e.getMessage());
+        } finally {
+            refillScheduled.set(false);
+        }
+        if (disposed) {
+            dispose();
+        }
+    }
+
+    private void terminate(JRubyEngine engine) {
+        try {
+            engine.close();
+        } catch (RuntimeException e) {
+            logger.debug("Failed to terminate Ruby runtime: {}", e.getMessage());
+        }
+    }
+}
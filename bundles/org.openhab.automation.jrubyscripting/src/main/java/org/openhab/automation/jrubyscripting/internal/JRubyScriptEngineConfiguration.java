@@ -60,10 +60,12 @@ public class JRubyScriptEngineConfiguration {
     private static final String REQUIRE_CONFIG_KEY = "require";
     private static final String CHECK_UPDATE_CONFIG_KEY = "check_update";
     private static final String DEPENDENCY_TRACKING_CONFIG_KEY = "dependency_tracking";
+    private static final String LOCAL_CONTEXT_CONFIG_KEY = "local_context";
+    private static final String RUNTIME_POOL_SIZE_CONFIG_KEY = "runtime_pool_size";
 
     // Map of configuration parameters
     private final Map<String, OptionalConfigurationElement> configurationParameters = Map.ofEntries(
-            Map.entry("local_context",
+            Map.entry(LOCAL_CONTEXT_CONFIG_KEY,
                     new OptionalConfigurationElement(OptionalConfigurationElement.Type.SYSTEM_PROPERTY, "singlethread",
                             "org.jruby.embed.localcontext.scope")),
 
@@ -85,7 +87,9 @@ public class JRubyScriptEngineConfiguration {
 
             Map.entry(CHECK_UPDATE_CONFIG_KEY, new OptionalConfigurationElement("true")),
 
-            Map.entry(DEPENDENCY_TRACKING_CONFIG_KEY, new OptionalConfigurationElement("true")));
+            Map.entry(DEPENDENCY_TRACKING_CONFIG_KEY, new OptionalConfigurationElement("true")),
+
+            Map.entry(RUNTIME_POOL_SIZE_CONFIG_KEY, new OptionalConfigurationElement("0")));
 
     /**
      * Update configuration
@@ -334,6 +338,26 @@ public class JRubyScriptEngineConfiguration {
         return "true".equals(get(DEPENDENCY_TRACKING_CONFIG_KEY));
     }
 
+    /**
+     * Gets the number of Ruby runtimes to keep pre-booted.
+     *
+     * With the <tt>singleton</tt> local context all script engines share a single runtime and with the
+     * <tt>threadsafe</tt> local context the runtime belongs to the thread using it, so there is nothing to pre-boot in
+     * these cases.
+     */
+    public int getRuntimePoolSize() {
+        String localContext = get(LOCAL_CONTEXT_CONFIG_KEY);
+        if ("singleton".equals(localContext) || "threadsafe".equals(localContext)) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(get(RUNTIME_POOL_SIZE_CONFIG_KEY)));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value for {}: '{}'", RUNTIME_POOL_SIZE_CONFIG_KEY, get(RUNTIME_POOL_SIZE_CONFIG_KEY));
+            return 0;
+        }
+    }
+
     /**
      * Configure system properties
      * 
@@ -31,6 +31,7 @@ import org.openhab.core.automation.module.script.AbstractScriptEngineFactory;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
 import org.openhab.core.automation.module.script.ScriptExtensionManagerWrapper;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.service.WatchService;
 import org.osgi.framework.Constants;
@@ -62,6 +63,8 @@ public class JRubyScriptEngineFactory extends AbstractScriptEngineFactory {
 
     private final JRubyDependencyTracker jrubyDependencyTracker;
 
+    private @Nullable JRubyRuntimePool runtimePool;
+
     // Adds $ in front of a set of variables so that Ruby recognizes them as global
     // variables
     private static Map.Entry<String, Object> mapGlobalPresets(Map.Entry<String, Object> entry) {
@@ -83,6 +86,7 @@ public class JRubyScriptEngineFactory extends AbstractScriptEngineFactory {
     @Deactivate
     protected void deactivate() {
         jrubyDependencyTracker.deactivate();
+        disposeRuntimePool();
     }
 
     // The modified call updates configuration for the automation
@@ -94,6 +98,21 @@ public class JRubyScriptEngineFactory extends AbstractScriptEngineFactory {
         if (configuration.enableDependencyTracking()) {
             jrubyDependencyTracker.activate();
         }
+        // Pre-booted runtimes have been configured with the old Ruby environment.
+        disposeRuntimePool();
+        int runtimePoolSize = configuration.getRuntimePoolSize();
+        if (runtimePoolSize > 0) {
+            runtimePool = new JRubyRuntimePool(this::createRubyEngine, runtimePoolSize,
+                    ThreadPoolManager.getPool("jrubyscripting"));
+        }
+    }
+
+    private void disposeRuntimePool() {
+        JRubyRuntimePool localRuntimePool = runtimePool;
+        if (localRuntimePool != null) {
+            localRuntimePool.dispose();
+            runtimePool = null;
+        }
     }
 
     @Override
@@ -158,9 +177,14 @@ public class JRubyScriptEngineFactory extends AbstractScriptEngineFactory {
         if (!scriptTypes.contains(scriptType)) {
             return null;
         }
+        JRubyRuntimePool localRuntimePool = runtimePool;
+        return new JRubyEngineWrapper(localRuntimePool != null ? localRuntimePool.acquire() : createRubyEngine());
+    }
+
+    private org.jruby.embed.jsr223.JRubyEngine createRubyEngine() {
         ScriptEngine engine = factory.getScriptEngine();
         configuration.configureRubyEnvironment(engine);
-        return new JRubyEngineWrapper((org.jruby.embed.jsr223.JRubyEngine) engine);
+        return (org.jruby.embed.jsr223.JRubyEngine) engine;
     }
 
     @Override
@@ -12,6 +12,7 @@
  */
 package org.openhab.automation.jsscripting.internal;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -21,13 +22,16 @@ import javax.script.ScriptEngine;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
+import org.openhab.automation.jsscripting.internal.threading.ScriptEngineMailbox;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.config.core.ConfigurableService;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
@@ -46,6 +50,14 @@ import com.oracle.truffle.js.scriptengine.GraalJSEngineFactory;
 public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
     private static final String CFG_INJECTION_ENABLED = "injectionEnabled";
     private static final String CFG_INJECTION_CACHING_ENABLED = "injectionCachingEnabled";
+    private static final String CFG_ENGINE_POOL_SIZE = "enginePoolSize";
+    private static final String CFG_ENGINE_POOL_IDLE_TIMEOUT = "enginePoolIdleTimeout";
+    private static final String CFG_RULE_EXECUTION_MODE = "ruleExecutionMode";
+    private static final String CFG_MAILBOX_CAPACITY = "mailboxCapacity";
+    private static final String CFG_MAILBOX_OVERFLOW_POLICY = "mailboxOverflowPolicy";
+    private static final String CFG_MAILBOX_COALESCE_STATE_EVENTS = "mailboxCoalesceStateEvents";
+    private static final String RULE_EXECUTION_MODE_MAILBOX = "mailbox";
+    private static final String THREAD_POOL_NAME = "jsscripting";
 
     private static final GraalJSEngineFactory factory = new GraalJSEngineFactory();
 
@@ -60,15 +72,20 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
     private boolean injectionEnabled = true;
     private boolean injectionCachingEnabled = true;
+    private ScriptEngineMailbox.@Nullable Settings mailboxSettings;
 
     private final JSScriptServiceUtil jsScriptServiceUtil;
     private final JSDependencyTracker jsDependencyTracker;
+    private final JSScriptEngineStatistics statistics;
+    private @Nullable GraalJSScriptEnginePool enginePool;
 
     @Activate
     public GraalJSScriptEngineFactory(final @Reference JSScriptServiceUtil jsScriptServiceUtil,
-            final @Reference JSDependencyTracker jsDependencyTracker, Map<String, Object> config) {
+            final @Reference JSDependencyTracker jsDependencyTracker,
+            final @Reference JSScriptEngineStatistics statistics, Map<String, Object> config) {
         this.jsDependencyTracker = jsDependencyTracker;
         this.jsScriptServiceUtil = jsScriptServiceUtil;
+        this.statistics = statistics;
         modified(config);
     }
 
@@ -87,8 +104,14 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
         if (!scriptTypes.contains(scriptType)) {
             return null;
         }
-        return new DebuggingGraalScriptEngine<>(new OpenhabGraalJSScriptEngine(injectionEnabled,
-                injectionCachingEnabled, jsScriptServiceUtil, jsDependencyTracker));
+        GraalJSScriptEnginePool localEnginePool = enginePool;
+        OpenhabGraalJSScriptEngine engine = localEnginePool != null ? localEnginePool.acquire() : createEngine();
+        return new DebuggingGraalScriptEngine<>(engine);
+    }
+
+    private OpenhabGraalJSScriptEngine createEngine() {
+        return new OpenhabGraalJSScriptEngine(injectionEnabled, injectionCachingEnabled, jsScriptServiceUtil,
+                jsDependencyTracker, statistics, mailboxSettings);
     }
 
     @Override
@@ -101,5 +124,46 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
         this.injectionEnabled = ConfigParser.valueAsOrElse(config.get(CFG_INJECTION_ENABLED), Boolean.class, true);
         this.injectionCachingEnabled = ConfigParser.valueAsOrElse(config.get(CFG_INJECTION_CACHING_ENABLED),
                 Boolean.class, true);
+        if (RULE_EXECUTION_MODE_MAILBOX
+                .equals(ConfigParser.valueAsOrElse(config.get(CFG_RULE_EXECUTION_MODE), String.class, "blocking"))) {
+            int mailboxCapacity = ConfigParser.valueAsOrElse(config.get(CFG_MAILBOX_CAPACITY), Integer.class, 1000);
+            ScriptEngineMailbox.OverflowPolicy overflowPolicy;
+            try {
+                overflowPolicy = ScriptEngineMailbox.OverflowPolicy.valueOf(ConfigParser
+                        .valueAsOrElse(config.get(CFG_MAILBOX_OVERFLOW_POLICY), String.class, "DROP_OLDEST"));
+            } catch (IllegalArgumentException e) {
+                overflowPolicy = ScriptEngineMailbox.OverflowPolicy.DROP_OLDEST;
+            }
+            boolean coalesceStateEvents = ConfigParser
+                    .valueAsOrElse(config.get(CFG_MAILBOX_COALESCE_STATE_EVENTS), Boolean.class, false);
+            this.mailboxSettings = new ScriptEngineMailbox.Settings(Math.max(1, mailboxCapacity), overflowPolicy,
+                    coalesceStateEvents);
+        } else {
+            this.mailboxSettings = null;
+        }
+        int enginePoolSize = ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_SIZE), Integer.class, 0);
+        int enginePoolIdleTimeout = ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_IDLE_TIMEOUT),
+                Integer.class, 300);
+
+        // pre-warmed engines have been created with the old configuration, so always replace the pool
+        disposeEnginePool();
+        if (enginePoolSize > 0) {
+            enginePool = new GraalJSScriptEnginePool(this::createEngine, enginePoolSize,
+                    Duration.ofSeconds(Math.max(10, enginePoolIdleTimeout)),
+                    ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME), statistics);
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        disposeEnginePool();
+    }
+
+    private void disposeEnginePool() {
+        GraalJSScriptEnginePool localEnginePool = enginePool;
+        if (localEnginePool != null) {
+            localEnginePool.dispose();
+            enginePool = null;
+        }
     }
 }
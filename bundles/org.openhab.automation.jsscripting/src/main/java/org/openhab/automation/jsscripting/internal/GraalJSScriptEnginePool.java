@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a number of pre-warmed {@link OpenhabGraalJSScriptEngine}s, whose polyglot contexts have already been created on
+ * the shared {@link org.graalvm.polyglot.Engine}, ready to be handed out.
+ * <p>
+ * Transformations and UI script conditions create short-lived, stateless engines; taking those from the pool avoids
+ * paying for the context creation on the calling (binding) thread. The pool is refilled asynchronously, and
+ * pre-warmed engines that have not been requested within the idle timeout are evicted to free their memory.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GraalJSScriptEnginePool {
+    private final Logger logger = LoggerFactory.getLogger(GraalJSScriptEnginePool.class);
+
+    private final Supplier<OpenhabGraalJSScriptEngine> engineSupplier;
+    private final ScheduledExecutorService scheduler;
+    private final JSScriptEngineStatistics statistics;
+    private final int size;
+    private final Duration idleTimeout;
+
+    private final Deque<PooledEngine> idleEngines = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> evictionJob;
+    private volatile boolean disposed = false;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param engineSupplier creates new (not yet initialized) engines
+     * @param size the maximum number of pre-warmed engines to keep
+     * @param idleTimeout the time after which an unused pre-warmed engine is evicted
+     * @param scheduler the scheduler used for refilling and eviction
+     * @param statistics the statistics to record pool utilization into
+     */
+    public GraalJSScriptEnginePool(Supplier<OpenhabGraalJSScriptEngine> engineSupplier, int size, Duration idleTimeout,
+            ScheduledExecutorService scheduler, JSScriptEngineStatistics statistics) {
+        this.engineSupplier = engineSupplier;
+        this.size = size;
+        this.idleTimeout = idleTimeout;
+        this.scheduler = scheduler;
+        this.statistics = statistics;
+
+        long evictionInterval = Math.max(1, idleTimeout.toSeconds() / 2);
+        evictionJob = scheduler.scheduleWithFixedDelay(this::evictIdleEngines, evictionInterval, evictionInterval,
+                TimeUnit.SECONDS);
+        scheduleRefill();
+    }
+
+    /**
+     * Takes a pre-warmed engine from the pool, or creates a new one if the pool is empty.
+     *
+     * @return an engine that has not been used yet
+     */
+    public OpenhabGraalJSScriptEngine acquire() {
+        PooledEngine pooled = idleEngines.pollFirst();
+        OpenhabGraalJSScriptEngine engine;
+        if (pooled != null) {
+            statistics.recordPoolHit();
+            engine = pooled.engine;
+        } else {
+            statistics.recordPoolMiss();
+            engine = engineSupplier.get();
+        }
+        scheduleRefill();
+        return engine;
+    }
+
+    /**
+     * @return the number of pre-warmed engines currently available
+     */
+    public int getIdleCount() {
+        return idleEngines.size();
+    }
+
+    /**
+     * @return the maximum number of pre-warmed engines
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Stops refilling and eviction and closes all pre-warmed engines.
+     */
+    public void dispose() {
+        disposed = true;
+        ScheduledFuture<?> localEvictionJob = evictionJob;
+        if (localEvictionJob != null) {
+            localEvictionJob.cancel(false);
+            evictionJob = null;
+        }
+        PooledEngine pooled;
+        while ((pooled = idleEngines.pollFirst()) != null) {
+            pooled.engine.close();
+        }
+    }
+
+    private void scheduleRefill() {
+        if (!disposed && idleEngines.size() < size && refillScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::refill);
+        }
+    }
+
+    private void refill() {
+        try {
+            while (!disposed && idleEngines.size() < size) {
+                OpenhabGraalJSScriptEngine engine = engineSupplier.get();
+                engine.prewarm();
+                idleEngines.offerLast(new PooledEngine(engine, System.nanoTime()));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to pre-warm GraalJS script engine: {}", e.getMessage());
+        } finally {
+            refillScheduled.set(false);
+        }
+        if (disposed) {
+            dispose();
+        }
+    }
+
+    private void evictIdleEngines() {
+        long threshold = System.nanoTime() - idleTimeout.toNanos();
+        List<PooledEngine> evicted = new ArrayList<>();
+        Iterator<PooledEngine> iterator = idleEngines.iterator();
+        while (iterator.hasNext()) {
+            PooledEngine pooled = iterator.next();
+            if (pooled.createdAt - threshold < 0 && idleEngines.removeFirstOccurrence(pooled)) {
+                evicted.add(pooled);
+            }
+        }
+        evicted.forEach(pooled -> pooled.engine.close());
+        if (!evicted.isEmpty()) {
+            statistics.recordPoolEvictions(evicted.size());
+        }
+        logger.debug("GraalJS script engine pool: {}/{} pre-warmed engines idle, {}", idleEngines.size(), size,
+                statistics);
+    }
+
+    private record PooledEngine(OpenhabGraalJSScriptEngine engine, long createdAt) {
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Collects statistics about the lock contention of {@link OpenhabGraalJSScriptEngine}s and the utilization of the
+ * {@link GraalJSScriptEnginePool}.
+ *
+ * @author agent - Initial contribution
+ */
+@Component(service = JSScriptEngineStatistics.class)
+@NonNullByDefault
+public class JSScriptEngineStatistics {
+    private final AtomicLong lockAcquisitions = new AtomicLong();
+    private final AtomicLong contendedLockAcquisitions = new AtomicLong();
+    private final AtomicLong lockWaitNanos = new AtomicLong();
+    private final LongAccumulator maxLockWaitNanos = new LongAccumulator(Math::max, 0);
+
+    private final AtomicLong poolHits = new AtomicLong();
+    private final AtomicLong poolMisses = new AtomicLong();
+    private final AtomicLong poolEvictions = new AtomicLong();
+
+    /**
+     * Records the acquisition of an engine lock.
+     *
+     * @param waitNanos the time the calling thread had to wait for the lock, 0 if the lock was not contended
+     */
+    public void recordLockAcquisition(long waitNanos) {
+        lockAcquisitions.incrementAndGet();
+        if (waitNanos > 0) {
+            contendedLockAcquisitions.incrementAndGet();
+            lockWaitNanos.addAndGet(waitNanos);
+            maxLockWaitNanos.accumulate(waitNanos);
+        }
+    }
+
+    public void recordPoolHit() {
+        poolHits.incrementAndGet();
+    }
+
+    public void recordPoolMiss() {
+        poolMisses.incrementAndGet();
+    }
+
+    public void recordPoolEvictions(int count) {
+        poolEvictions.addAndGet(count);
+    }
+
+    public long getLockAcquisitions() {
+        return lockAcquisitions.get();
+    }
+
+    public long getContendedLockAcquisitions() {
+        return contendedLockAcquisitions.get();
+    }
+
+    public long getTotalLockWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lockWaitNanos.get());
+    }
+
+    public long getMaxLockWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLockWaitNanos.get());
+    }
+
+    public long getPoolHits() {
+        return poolHits.get();
+    }
+
+    public long getPoolMisses() {
+        return poolMisses.get();
+    }
+
+    public long getPoolEvictions() {
+        return poolEvictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "lock acquisitions: " + getLockAcquisitions() + " (" + getContendedLockAcquisitions()
+                + " contended, total wait " + getTotalLockWaitMillis() + " ms, max wait " + getMaxLockWaitMillis()
+                + " ms), pool hits: " + getPoolHits() + ", pool misses: " + getPoolMisses() + ", pool evictions: "
+                + getPoolEvictions();
+    }
+}
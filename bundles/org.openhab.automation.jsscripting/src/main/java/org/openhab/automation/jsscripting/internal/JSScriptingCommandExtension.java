@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link JSScriptingCommandExtension} shows the lock and engine pool statistics of the JS script engines on the
+ * console.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class JSScriptingCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String STATS = "stats";
+    private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(List.of(STATS), false);
+
+    private final JSScriptEngineStatistics statistics;
+
+    @Activate
+    public JSScriptingCommandExtension(final @Reference JSScriptEngineStatistics statistics) {
+        super("jsscripting", "Show statistics of the JS Scripting add-on.");
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length != 1 || !STATS.equals(args[0])) {
+            printUsage(console);
+            return;
+        }
+
+        console.println("Lock acquisitions:     " + statistics.getLockAcquisitions());
+        console.println("  contended:           " + statistics.getContendedLockAcquisitions());
+        console.println("  total wait:          " + statistics.getTotalLockWaitMillis() + " ms");
+        console.println("  max wait:            " + statistics.getMaxLockWaitMillis() + " ms");
+        console.println("Engine pool hits:      " + statistics.getPoolHits());
+        console.println("Engine pool misses:    " + statistics.getPoolMisses());
+        console.println("Engine pool evictions: " + statistics.getPoolEvictions());
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(STATS, "show lock contention and engine pool utilization"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return SUBCMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
@@ -51,7 +51,9 @@ import org.openhab.automation.jsscripting.internal.fs.PrefixedSeekableByteChanne
 import org.openhab.automation.jsscripting.internal.fs.ReadOnlySeekableByteArrayChannel;
 import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
 import org.openhab.automation.jsscripting.internal.scriptengine.InvocationInterceptingScriptEngineWithInvocableAndCompilableAndAutoCloseable;
+import org.openhab.automation.jsscripting.internal.threading.ScriptEngineMailbox;
 import org.openhab.core.automation.module.script.ScriptExtensionAccessor;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.QuantityType;
 import org.slf4j.Logger;
@@ -95,6 +97,7 @@ public class OpenhabGraalJSScriptEngine
     private static final String OPENHAB_JS_INJECTION_CODE = "Object.assign(this, require('openhab'));";
 
     private static final String REQUIRE_WRAPPER_NAME = "__wraprequire__";
+    private static final String MAILBOX_THREAD_POOL_NAME = "jsscripting-mailbox";
     /** Final CommonJS search path for our library */
     private static final Path NODE_DIR = Paths.get("node_modules");
     /** Shared Polyglot {@link Engine} across all instances of {@link OpenhabGraalJSScriptEngine} */
@@ -132,25 +135,36 @@ public class OpenhabGraalJSScriptEngine
     /** {@link Lock} synchronization of multi-thread access */
     private final Lock lock = new ReentrantLock();
     private final JSRuntimeFeatures jsRuntimeFeatures;
+    private final JSScriptEngineStatistics statistics;
+    private final @Nullable ScriptEngineMailbox mailbox;
 
     // these fields start as null because they are populated on first use
     private @Nullable Consumer<String> scriptDependencyListener;
     private String engineIdentifier; // this field is very helpful for debugging, please do not remove it
 
     private boolean initialized = false;
+    private boolean globalsInjected = false;
     private final boolean injectionEnabled;
     private final boolean injectionCachingEnabled;
 
     /**
      * Creates an implementation of ScriptEngine {@code (& Invocable)}, wrapping the contained engine,
      * that tracks the script lifecycle and provides hooks for scripts to do so too.
+     *
+     * @param mailboxSettings if not null, rule executions are queued to a {@link ScriptEngineMailbox} instead of
+     *            blocking the triggering thread
      */
     public OpenhabGraalJSScriptEngine(boolean injectionEnabled, boolean injectionCachingEnabled,
-            JSScriptServiceUtil jsScriptServiceUtil, JSDependencyTracker jsDependencyTracker) {
+            JSScriptServiceUtil jsScriptServiceUtil, JSDependencyTracker jsDependencyTracker,
+            JSScriptEngineStatistics statistics, ScriptEngineMailbox.@Nullable Settings mailboxSettings) {
         super(null); // delegate depends on fields not yet initialised, so we cannot set it immediately
         this.injectionEnabled = injectionEnabled;
         this.injectionCachingEnabled = injectionCachingEnabled;
+        this.statistics = statistics;
         this.jsRuntimeFeatures = jsScriptServiceUtil.getJSRuntimeFeatures(lock);
+        this.mailbox = mailboxSettings != null
+                ? new ScriptEngineMailbox(lock, ThreadPoolManager.getPool(MAILBOX_THREAD_POOL_NAME), mailboxSettings)
+                : null;
 
         LOGGER.debug("Initializing GraalJS script engine...");
 
@@ -223,11 +237,51 @@ public class OpenhabGraalJSScriptEngine
                         }));
     }
 
+    /**
+     * Creates the polyglot context of this engine and evaluates the global script ahead of its first use, so that
+     * engines taken from the {@link GraalJSScriptEnginePool} do not pay for this on the calling thread.
+     * <p>
+     * The openhab-js injection cannot be evaluated here: it requires the script extension modules, which are located
+     * through the script extension accessor and the engine identifier of the script context. Both are only available
+     * once the engine has been handed out to a script.
+     */
+    void prewarm() {
+        lock.lock();
+        try {
+            injectGlobals();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Injects the runtime features and evaluates the global script, unless this has already been done by
+     * {@link #prewarm()}. Must be called with the lock held.
+     */
+    private void injectGlobals() {
+        if (globalsInjected) {
+            return;
+        }
+        jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
+            LOGGER.debug("Injecting {} into the JS runtime...", key);
+            delegate.put(key, obj);
+        });
+        LOGGER.debug("Evaluating cached global script...");
+        delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
+        globalsInjected = true;
+    }
+
     @Override
     protected void beforeInvocation() {
         super.beforeInvocation();
 
-        lock.lock();
+        if (lock.tryLock()) {
+            statistics.recordLockAcquisition(0);
+        } else {
+            long waitStart = System.nanoTime();
+            lock.lock();
+            statistics.recordLockAcquisition(System.nanoTime() - waitStart);
+        }
 
         if (initialized) {
             return;
@@ -244,6 +298,10 @@ public class OpenhabGraalJSScriptEngine
             throw new IllegalStateException("Failed to retrieve engine identifier from engine bindings");
         }
         this.engineIdentifier = localEngineIdentifier;
+        ScriptEngineMailbox localMailbox = mailbox;
+        if (localMailbox != null) {
+            localMailbox.setIdentifier(localEngineIdentifier);
+        }
 
         ScriptExtensionAccessor scriptExtensionAccessor = (ScriptExtensionAccessor) ctx
                 .getAttribute(CONTEXT_KEY_EXTENSION_ACCESSOR);
@@ -260,7 +318,7 @@ public class OpenhabGraalJSScriptEngine
         scriptDependencyListener = localScriptDependencyListener;
 
         ScriptExtensionModuleProvider scriptExtensionModuleProvider = new ScriptExtensionModuleProvider(
-                scriptExtensionAccessor, lock);
+                scriptExtensionAccessor, lock, mailbox);
 
         // Wrap the "require" function to also allow loading modules from the ScriptExtensionModuleProvider
         Function<Function<Object[], Object>, Function<String, Object>> wrapRequireFn = originalRequireFn -> moduleName -> scriptExtensionModuleProvider
@@ -269,17 +327,10 @@ public class OpenhabGraalJSScriptEngine
         delegate.getBindings(ScriptContext.ENGINE_SCOPE).put(REQUIRE_WRAPPER_NAME, wrapRequireFn);
         delegate.put("require", wrapRequireFn.apply((Function<Object[], Object>) delegate.get("require")));
 
-        // Injections into the JS runtime
-        jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
-            LOGGER.debug("Injecting {} into the JS runtime...", key);
-            delegate.put(key, obj);
-        });
-
         initialized = true;
 
         try {
-            LOGGER.debug("Evaluating cached global script...");
-            delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
+            injectGlobals();
             if (this.injectionEnabled) {
                 if (this.injectionCachingEnabled) {
                     LOGGER.debug("Evaluating cached openhab-js injection...");
@@ -309,6 +360,10 @@ public class OpenhabGraalJSScriptEngine
 
     @Override
     public void close() {
+        ScriptEngineMailbox localMailbox = mailbox;
+        if (localMailbox != null) {
+            localMailbox.close();
+        }
         jsRuntimeFeatures.close();
     }
 
@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A mailbox that decouples the threads triggering the rules of a single GraalJS context from their execution.
+ * <p>
+ * Submitted work is queued and executed one message at a time on a thread of the given {@link Executor}, while holding
+ * the engine's {@link Lock}. The submitting thread (e.g. a binding thread or the event dispatcher) never blocks on a
+ * slow rule. The queue is bounded; messages carrying the same coalescing key (e.g. state events of the same item for
+ * the same rule) replace each other while they are waiting.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScriptEngineMailbox {
+    /**
+     * The behaviour when a message is submitted to a full mailbox.
+     */
+    public enum OverflowPolicy {
+        /** Discard the oldest waiting message to make room for the new one */
+        DROP_OLDEST,
+        /** Discard the new message */
+        DROP_NEWEST
+    }
+
+    /**
+     * The configuration of a mailbox.
+     *
+     * @param capacity the maximum number of waiting messages
+     * @param overflowPolicy what to do when the mailbox is full
+     * @param coalesceStateEvents whether waiting state events of the same item for the same rule are merged
+     */
+    public record Settings(int capacity, OverflowPolicy overflowPolicy, boolean coalesceStateEvents) {
+    }
+
+    private static final int DROP_WARNING_INTERVAL = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(ScriptEngineMailbox.class);
+
+    private final Lock lock;
+    private final Executor executor;
+    private final Settings settings;
+
+    // guarded by this
+    private final Deque<Message> queue = new ArrayDeque<>();
+    private final Map<String, Message> waitingByKey = new HashMap<>();
+    private boolean draining = false;
+    private boolean closed = false;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong queueLatencyNanos = new AtomicLong();
+    private final LongAccumulator maxQueueLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    private String identifier = "javascript";
+
+    public ScriptEngineMailbox(Lock lock, Executor executor, Settings settings) {
+        this.lock = lock;
+        this.executor = executor;
+        this.settings = settings;
+    }
+
+    /**
+     * Set the identifier used in log messages.
+     *
+     * @param identifier identifier to use
+     */
+    public void setIdentifier(String identifier) {
+        this.identifier = identifier;
+    }
+
+    /**
+     * @return whether state events should be submitted with a coalescing key
+     */
+    public boolean isCoalescingStateEvents() {
+        return settings.coalesceStateEvents();
+    }
+
+    /**
+     * Queues a message for execution without blocking the calling thread.
+     *
+     * @param coalesceKey if not null, a waiting message with the same key is replaced by this one
+     * @param task the work to execute while holding the engine lock
+     */
+    public void submit(@Nullable String coalesceKey, Runnable task) {
+        submitted.incrementAndGet();
+        boolean startDrain;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (coalesceKey != null) {
+                Message waiting = waitingByKey.get(coalesceKey);
+                if (waiting != null) {
+                    // last value wins, the message keeps its position and enqueue time
+                    waiting.task = task;
+                    coalesced.incrementAndGet();
+                    return;
+                }
+            }
+            if (queue.size() >= settings.capacity()) {
+                if (settings.overflowPolicy() == OverflowPolicy.DROP_NEWEST) {
+                    recordDrop();
+                    return;
+                }
+                Message oldest = queue.pollFirst();
+                if (oldest != null) {
+                    removeWaiting(oldest);
+                    recordDrop();
+                }
+            }
+            Message message = new Message(coalesceKey, task, System.nanoTime());
+            queue.offerLast(message);
+            if (coalesceKey != null) {
+                waitingByKey.put(coalesceKey, message);
+            }
+            startDrain = !draining;
+            draining = true;
+        }
+        if (startDrain) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+                logger.warn("Failed to schedule execution of queued messages for script '{}': {}", identifier,
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return the number of messages currently waiting
+     */
+    public synchronized int getQueueLength() {
+        return queue.size();
+    }
+
+    /**
+     * Discards all waiting messages and rejects new ones.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            queue.clear();
+            waitingByKey.clear();
+        }
+        logger.debug("Closed mailbox of script '{}': {}", identifier, this);
+    }
+
+    private void drain() {
+        while (true) {
+            Message message;
+            synchronized (this) {
+                message = queue.pollFirst();
+                if (message == null) {
+                    draining = false;
+                    return;
+                }
+                removeWaiting(message);
+            }
+
+            long latency = System.nanoTime() - message.enqueuedAt;
+            queueLatencyNanos.addAndGet(latency);
+            maxQueueLatencyNanos.accumulate(latency);
+
+            lock.lock();
+            try {
+                message.task.run();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to execute queued message of script '{}': {}", identifier, e.getMessage());
+            } finally { // Make sure that Lock is unlocked regardless of an exception is thrown or not to avoid deadlocks
+                lock.unlock();
+                processed.incrementAndGet();
+            }
+        }
+    }
+
+    private void removeWaiting(Message message) {
+        String key = message.coalesceKey;
+        if (key != null) {
+            waitingByKey.remove(key, message);
+        }
+    }
+
+    private void recordDrop() {
+        long count = dropped.incrementAndGet();
+        if (count % DROP_WARNING_INTERVAL == 1) {
+            logger.warn("Mailbox of script '{}' is full (capacity {}), dropped {} message(s) so far", identifier,
+                    settings.capacity(), count);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long processedCount = processed.get();
+        long averageLatency = processedCount == 0 ? 0
+                : TimeUnit.NANOSECONDS.toMillis(queueLatencyNanos.get() / processedCount);
+        return "submitted: " + submitted.get() + ", processed: " + processedCount + ", coalesced: " + coalesced.get()
+                + ", dropped: " + dropped.get() + ", average queue latency: " + averageLatency
+                + " ms, max queue latency: " + TimeUnit.NANOSECONDS.toMillis(maxQueueLatencyNanos.get()) + " ms";
+    }
+
+    private static class Message {
+        private final @Nullable String coalesceKey;
+        private Runnable task;
+        private final long enqueuedAt;
+
+        private Message(@Nullable String coalesceKey, Runnable task, long enqueuedAt) {
+            this.coalesceKey = coalesceKey;
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -29,6 +29,9 @@ import org.openhab.core.automation.module.script.rulesupport.shared.simple.Simpl
 import org.openhab.core.automation.module.script.rulesupport.shared.simple.SimpleRuleActionHandler;
 import org.openhab.core.config.core.ConfigDescriptionParameter;
 import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.Event;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateUpdatedEvent;
 
 /**
  * A version of {@link SimpleRule} which controls multithreaded execution access to this specific rule. This is useful
@@ -41,21 +44,33 @@ class ThreadsafeSimpleRuleDelegate implements Rule, SimpleRuleActionHandler {
 
     private final Lock lock;
     private final SimpleRule delegate;
+    private final @Nullable ScriptEngineMailbox mailbox;
 
     /**
      * Constructor requires a lock object and delegate to forward invocations to.
      *
      * @param lock rule executions will synchronize on this object
      * @param delegate the delegate to forward invocations to
+     * @param mailbox if not null, rule executions started by a trigger are queued to this mailbox instead of blocking
+     *            the calling thread
      */
-    ThreadsafeSimpleRuleDelegate(Lock lock, SimpleRule delegate) {
+    ThreadsafeSimpleRuleDelegate(Lock lock, SimpleRule delegate, @Nullable ScriptEngineMailbox mailbox) {
         this.lock = lock;
         this.delegate = delegate;
+        this.mailbox = mailbox;
     }
 
     @Override
     @NonNullByDefault({})
     public Object execute(Action module, Map<String, ?> inputs) {
+        ScriptEngineMailbox localMailbox = mailbox;
+        Event event = getTriggerEvent(inputs);
+        if (localMailbox != null && event != null) {
+            // the result of a triggered rule is not used, whereas a rule run by a script or the UI expects it
+            localMailbox.submit(getCoalesceKey(localMailbox, module, event), () -> delegate.execute(module, inputs));
+            return null;
+        }
+
         lock.lock();
         try {
             return delegate.execute(module, inputs);
@@ -64,6 +79,36 @@ class ThreadsafeSimpleRuleDelegate implements Rule, SimpleRuleActionHandler {
         }
     }
 
+    /**
+     * Returns the key under which waiting executions of this rule can be merged, i.e. the rule action and the item
+     * for state events. All other executions (commands, time triggers, ...) must not be merged.
+     */
+    private @Nullable String getCoalesceKey(ScriptEngineMailbox mailbox, Action module, Event event) {
+        if (!mailbox.isCoalescingStateEvents()) {
+            return null;
+        }
+        if (event instanceof ItemStateChangedEvent || event instanceof ItemStateUpdatedEvent) {
+            return getUID() + ":" + module.getId() + ":" + event.getTopic();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the event of the trigger that started this execution, or null if the rule was run without a trigger,
+     * e.g. by another script or from the UI.
+     */
+    static @Nullable Event getTriggerEvent(Map<String, ?> inputs) {
+        if (inputs.get("event") instanceof Event event) {
+            return event;
+        }
+        for (Map.Entry<String, ?> input : inputs.entrySet()) {
+            if (input.getKey().endsWith(".event") && input.getValue() instanceof Event event) {
+                return event;
+            }
+        }
+        return null;
+    }
+
     @Override
     public String getUID() {
         return delegate.getUID();
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.automation.jsscripting.internal.threading.ScriptEngineMailbox.OverflowPolicy;
+import org.openhab.automation.jsscripting.internal.threading.ScriptEngineMailbox.Settings;
+
+/**
+ * Tests cases for {@link ScriptEngineMailbox}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScriptEngineMailboxTest {
+    // the drain jobs handed to the executor, run by the tests when they want the mailbox to be processed
+    private final List<Runnable> drains = new ArrayList<>();
+    private final List<String> executed = new ArrayList<>();
+
+    private ScriptEngineMailbox createMailbox(int capacity, OverflowPolicy overflowPolicy) {
+        return new ScriptEngineMailbox(new ReentrantLock(), drains::add, new Settings(capacity, overflowPolicy, true));
+    }
+
+    private void submit(ScriptEngineMailbox mailbox, @Nullable String coalesceKey, String message) {
+        mailbox.submit(coalesceKey, () -> executed.add(message));
+    }
+
+    private void drain() {
+        assertEquals(1, drains.size());
+        drains.remove(0).run();
+    }
+
+    @Test
+    public void testMessagesAreExecutedInOrder() {
+        ScriptEngineMailbox mailbox = createMailbox(10, OverflowPolicy.DROP_OLDEST);
+        submit(mailbox, null, "a");
+        submit(mailbox, null, "b");
+        assertTrue(executed.isEmpty());
+
+        drain();
+        assertEquals(List.of("a", "b"), executed);
+        assertEquals(0, mailbox.getQueueLength());
+    }
+
+    @Test
+    public void testQueueLimitDropsOldest() {
+        ScriptEngineMailbox mailbox = createMailbox(2, OverflowPolicy.DROP_OLDEST);
+        submit(mailbox, null, "a");
+        submit(mailbox, null, "b");
+        submit(mailbox, null, "c");
+        assertEquals(2, mailbox.getQueueLength());
+
+        drain();
+        assertEquals(List.of("b", "c"), executed);
+    }
+
+    @Test
+    public void testQueueLimitDropsNewest() {
+        ScriptEngineMailbox mailbox = createMailbox(2, OverflowPolicy.DROP_NEWEST);
+        submit(mailbox, null, "a");
+        submit(mailbox, null, "b");
+        submit(mailbox, null, "c");
+        assertEquals(2, mailbox.getQueueLength());
+
+        drain();
+        assertEquals(List.of("a", "b"), executed);
+    }
+
+    @Test
+    public void testWaitingMessagesWithSameKeyAreCoalesced() {
+        ScriptEngineMailbox mailbox = createMailbox(10, OverflowPolicy.DROP_OLDEST);
+        submit(mailbox, "item1", "item1=1");
+        submit(mailbox, null, "command");
+        submit(mailbox, "item1", "item1=2");
+        submit(mailbox, "item2", "item2=1");
+        assertEquals(3, mailbox.getQueueLength());
+
+        // the coalesced message keeps its position, but runs the latest task
+        drain();
+        assertEquals(List.of("item1=2", "command", "item2=1"), executed);
+
+        // once executed, a message with the same key is queued again
+        submit(mailbox, "item1", "item1=3");
+        drain();
+        assertEquals(List.of("item1=2", "command", "item2=1", "item1=3"), executed);
+    }
+
+    @Test
+    public void testCoalescingDoesNotCountAgainstQueueLimit() {
+        ScriptEngineMailbox mailbox = createMailbox(2, OverflowPolicy.DROP_NEWEST);
+        submit(mailbox, "item1", "item1=1");
+        submit(mailbox, null, "command");
+        submit(mailbox, "item1", "item1=2");
+        submit(mailbox, "item2", "item2=1");
+
+        drain();
+        assertEquals(List.of("item1=2", "command"), executed);
+    }
+
+    @Test
+    public void testClosedMailboxDiscardsMessages() {
+        ScriptEngineMailbox mailbox = createMailbox(10, OverflowPolicy.DROP_OLDEST);
+        submit(mailbox, null, "a");
+        mailbox.close();
+        submit(mailbox, null, "b");
+
+        drain();
+        assertTrue(executed.isEmpty());
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.automation.jsscripting.internal.threading.ScriptEngineMailbox.OverflowPolicy;
+import org.openhab.automation.jsscripting.internal.threading.ScriptEngineMailbox.Settings;
+import org.openhab.core.automation.Action;
+import org.openhab.core.automation.module.script.rulesupport.shared.simple.SimpleRule;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.library.types.OnOffType;
+
+/**
+ * Tests cases for {@link ThreadsafeSimpleRuleDelegate}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ThreadsafeSimpleRuleDelegateTest {
+    private final List<Runnable> drains = new ArrayList<>();
+    private final SimpleRule rule = mock(SimpleRule.class);
+    private final Action action = mock(Action.class);
+    private final ThreadsafeSimpleRuleDelegate delegate = new ThreadsafeSimpleRuleDelegate(new ReentrantLock(), rule,
+            new ScriptEngineMailbox(new ReentrantLock(), drains::add,
+                    new Settings(10, OverflowPolicy.DROP_OLDEST, false)));
+
+    @Test
+    public void testTriggeredExecutionIsQueued() {
+        Map<String, ?> inputs = Map.of("1.event", ItemEventFactory.createCommandEvent("Switch", OnOffType.ON));
+        assertNull(delegate.execute(action, inputs));
+        verify(rule, never()).execute(action, inputs);
+
+        drains.remove(0).run();
+        verify(rule).execute(action, inputs);
+    }
+
+    @Test
+    public void testExecutionWithoutTriggerIsSynchronous() {
+        Map<String, ?> inputs = Map.of("key", "value");
+        when(rule.execute(action, inputs)).thenReturn("result");
+
+        assertEquals("result", delegate.execute(action, inputs));
+        assertTrue(drains.isEmpty());
+    }
+}
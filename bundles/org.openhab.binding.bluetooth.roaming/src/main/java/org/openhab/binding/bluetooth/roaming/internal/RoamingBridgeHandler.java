@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.bluetooth.roaming.internal;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +25,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.bluetooth.BluetoothAdapter;
 import org.openhab.binding.bluetooth.BluetoothAddress;
+import org.openhab.binding.bluetooth.BluetoothAdvertisementPipeline;
 import org.openhab.binding.bluetooth.BluetoothBindingConstants;
 import org.openhab.binding.bluetooth.BluetoothDiscoveryListener;
 import org.openhab.core.thing.Bridge;
@@ -52,8 +55,15 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
     private Map<BluetoothAddress, RoamingBluetoothDevice> devices = new HashMap<>();
     private ThingUID[] groupUIDs = new ThingUID[0];
 
+    /*
+     * Handlers of roaming devices receive the advertisements of all adapters through this pipeline,
+     * so it also drops the copies of an advertisement received by more than one adapter.
+     */
+    private final BluetoothAdvertisementPipeline advertisementPipeline;
+
     public RoamingBridgeHandler(Bridge bridge) {
         super(bridge);
+        advertisementPipeline = new BluetoothAdvertisementPipeline(bridge.getUID().toString());
     }
 
     @Override
@@ -66,6 +76,10 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
             groupUIDs = Stream.of(groupIds.split(",")).map(ThingUID::new).toArray(ThingUID[]::new);
         }
 
+        Object interval = getConfig().get(BluetoothBindingConstants.CONFIGURATION_ADVERTISEMENT_INTERVAL);
+        advertisementPipeline.setMinInterval(Duration
+                .ofSeconds(interval instanceof BigDecimal decimal ? Math.max(0, decimal.longValue()) : 0));
+
         if (adapters.stream().map(BluetoothAdapter::getUID).anyMatch(this::isGroupMember)) {
             updateStatus(ThingStatus.ONLINE);
         } else {
@@ -94,6 +108,11 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
         return getThing().getUID();
     }
 
+    @Override
+    public BluetoothAdvertisementPipeline getAdvertisementPipeline() {
+        return advertisementPipeline;
+    }
+
     @Override
     public @Nullable String getLocation() {
         return getThing().getLocation();
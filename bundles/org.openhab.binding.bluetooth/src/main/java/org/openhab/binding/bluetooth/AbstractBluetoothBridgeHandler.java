@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.bluetooth;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Objects;
@@ -61,6 +62,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     private @Nullable ScheduledFuture<?> inactiveRemovalJob;
 
+    private final BluetoothAdvertisementPipeline advertisementPipeline;
+
     /**
      * Constructor
      *
@@ -68,6 +71,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
      */
     public AbstractBluetoothBridgeHandler(Bridge bridge) {
         super(bridge);
+        advertisementPipeline = new BluetoothAdvertisementPipeline(bridge.getUID().toString());
     }
 
     @Override
@@ -85,9 +89,15 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         return getThing().getLabel();
     }
 
+    @Override
+    public BluetoothAdvertisementPipeline getAdvertisementPipeline() {
+        return advertisementPipeline;
+    }
+
     @Override
     public void initialize() {
         config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+        advertisementPipeline.setMinInterval(Duration.ofSeconds(Math.max(0, config.advertisementInterval)));
 
         int intervalSecs = config.inactiveDeviceCleanupInterval;
         inactiveRemovalJob = scheduler.scheduleWithFixedDelay(this::removeInactiveDevices, intervalSecs, intervalSecs,
@@ -61,6 +61,9 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
     protected final ReentrantLock deviceLock;
 
+    // this handler wrapped by the advertisement pipeline of the adapter
+    private @Nullable BluetoothDeviceListener deviceListener;
+
     private @Nullable ZonedDateTime lastActivityTime;
 
     public BeaconBluetoothHandler(Thing thing) {
@@ -95,7 +98,9 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         try {
             deviceLock.lock();
             device = adapter.getDevice(address);
-            device.addListener(this);
+            BluetoothDeviceListener deviceListener = adapter.getAdvertisementPipeline().subscribe(this);
+            this.deviceListener = deviceListener;
+            device.addListener(deviceListener);
         } finally {
             deviceLock.unlock();
         }
@@ -135,7 +140,11 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         try {
             deviceLock.lock();
             if (device != null) {
-                device.removeListener(this);
+                BluetoothDeviceListener deviceListener = this.deviceListener;
+                if (deviceListener != null) {
+                    device.removeListener(deviceListener);
+                    this.deviceListener = null;
+                }
                 device.disconnect();
                 device = null;
             }
@@ -99,4 +99,14 @@ public interface BluetoothAdapter extends Identifiable<ThingUID> {
      * @return true if this adapter has a {@link BluetoothDevice} with that address
      */
     boolean hasHandlerForDevice(BluetoothAddress address);
+
+    /**
+     * Gets the {@link BluetoothAdvertisementPipeline} that handlers of devices of this adapter use to receive
+     * advertisements.
+     *
+     * @return the pipeline of this adapter
+     */
+    default BluetoothAdvertisementPipeline getAdvertisementPipeline() {
+        return BluetoothAdvertisementPipeline.DEFAULT;
+    }
 }
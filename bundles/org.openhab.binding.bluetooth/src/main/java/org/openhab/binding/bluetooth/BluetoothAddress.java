@@ -26,6 +26,7 @@ public class BluetoothAddress {
     public static final int BD_ADDRESS_LENGTH = 17;
 
     private final String address;
+    private final long value;
 
     /**
      * The default constructor
@@ -36,6 +37,7 @@ public class BluetoothAddress {
         if (address == null || address.length() != BD_ADDRESS_LENGTH) {
             throw new IllegalArgumentException("BT Address cannot be null and must be in format XX:XX:XX:XX:XX:XX");
         }
+        long value = 0;
         for (int i = 0; i < BD_ADDRESS_LENGTH; i++) {
             char c = address.charAt(i);
 
@@ -44,6 +46,7 @@ public class BluetoothAddress {
                 case 0: // fall through
                 case 1:
                     if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'F')) {
+                        value = (value << 4) | Character.digit(c, 16);
                         break;
                     }
                     throw new IllegalArgumentException("BT Address must contain upper case hex values only");
@@ -56,6 +59,16 @@ public class BluetoothAddress {
         }
 
         this.address = address;
+        this.value = value;
+    }
+
+    /**
+     * Gets the address as a number, e.g. to use it as a compact key
+     *
+     * @return the 48 bits of the address in the lower bits of a long
+     */
+    public long toLong() {
+        return value;
     }
 
     @Override
@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothConnectionStatusNotification;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link BluetoothAdvertisementPipeline} sits between the devices of an adapter and the handlers listening to
+ * them.
+ * <p>
+ * Devices repeat the same advertisement on several advertising channels and roaming devices receive it through
+ * several adapters. The pipeline drops such repetitions, smooths the RSSI and forwards changed advertisements at most
+ * once per minimum interval. Unchanged advertisements are still forwarded every {@link #KEEPALIVE_INTERVAL}, so
+ * handlers know that the device is in reach.
+ * <p>
+ * The RSSI is only smoothed over advertisements received through the same adapter. When a roaming device switches to
+ * another adapter, the smoothing starts again with the first RSSI received through the new adapter.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BluetoothAdvertisementPipeline {
+    /**
+     * The pipeline of adapters that don't provide their own, it forwards every changed advertisement.
+     */
+    public static final BluetoothAdvertisementPipeline DEFAULT = new BluetoothAdvertisementPipeline("default");
+
+    static final Duration KEEPALIVE_INTERVAL = Duration.ofSeconds(30);
+    // a new RSSI is forwarded if it differs at least by this value (in dBm) from the last forwarded one
+    static final int RSSI_CHANGE_THRESHOLD = 3;
+    // weight of a received RSSI in the smoothed RSSI
+    static final double RSSI_SMOOTHING_FACTOR = 0.25;
+    private static final Duration STATISTICS_INTERVAL = Duration.ofMinutes(5);
+
+    private final Logger logger = LoggerFactory.getLogger(BluetoothAdvertisementPipeline.class);
+
+    private final String name;
+    private final LongSupplier nanoTime;
+    private final LongAdder ingested = new LongAdder();
+    private final LongAdder forwarded = new LongAdder();
+    private volatile long minIntervalNanos;
+
+    private volatile long nextStatisticsTime;
+    private long statisticsIngested;
+    private long statisticsForwarded;
+
+    /**
+     * Creates a pipeline that forwards every changed advertisement
+     *
+     * @param name the name of the pipeline in log messages, usually the UID of the adapter
+     */
+    public BluetoothAdvertisementPipeline(String name) {
+        this(name, System::nanoTime);
+    }
+
+    BluetoothAdvertisementPipeline(String name, LongSupplier nanoTime) {
+        this.name = name;
+        this.nanoTime = nanoTime;
+        this.nextStatisticsTime = nanoTime.getAsLong() + STATISTICS_INTERVAL.toNanos();
+    }
+
+    /**
+     * Sets the minimum interval between two forwarded advertisements of a device
+     *
+     * @param minInterval the interval, {@link Duration#ZERO} forwards every changed advertisement
+     */
+    public void setMinInterval(Duration minInterval) {
+        this.minIntervalNanos = minInterval.toNanos();
+    }
+
+    /**
+     * Creates a listener that can be added to a {@link BluetoothDevice} instead of the given listener. Scan records
+     * pass the pipeline before they are forwarded, all other events are forwarded directly.
+     *
+     * @param listener the listener receiving the forwarded events
+     * @return the listener to add to the device
+     */
+    public BluetoothDeviceListener subscribe(BluetoothDeviceListener listener) {
+        return new Subscription(listener);
+    }
+
+    /**
+     * @return the number of advertisements received by the pipeline
+     */
+    public long getIngestedCount() {
+        return ingested.sum();
+    }
+
+    /**
+     * @return the number of advertisements forwarded by the pipeline
+     */
+    public long getForwardedCount() {
+        return forwarded.sum();
+    }
+
+    private void logStatistics(long now) {
+        if (now - nextStatisticsTime < 0) {
+            return;
+        }
+        synchronized (this) {
+            long intervalStart = nextStatisticsTime - STATISTICS_INTERVAL.toNanos();
+            if (now - nextStatisticsTime < 0) {
+                return;
+            }
+            double minutes = (now - intervalStart) / (double) Duration.ofMinutes(1).toNanos();
+            long ingestedCount = ingested.sum();
+            long forwardedCount = forwarded.sum();
+            logger.debug("{}: received {} and forwarded {} advertisements per minute", name,
+                    Math.round((ingestedCount - statisticsIngested) / minutes),
+                    Math.round((forwardedCount - statisticsForwarded) / minutes));
+            statisticsIngested = ingestedCount;
+            statisticsForwarded = forwardedCount;
+            nextStatisticsTime = now + STATISTICS_INTERVAL.toNanos();
+        }
+    }
+
+    private static boolean samePayload(BluetoothScanNotification first, BluetoothScanNotification second) {
+        if (!Arrays.equals(first.getData(), second.getData())
+                || !Arrays.equals(first.getManufacturerData(), second.getManufacturerData())
+                || first.getBeaconType() != second.getBeaconType()
+                || !first.getDeviceName().equals(second.getDeviceName())) {
+            return false;
+        }
+        Map<String, byte[]> firstServiceData = first.getServiceData();
+        Map<String, byte[]> secondServiceData = second.getServiceData();
+        if (firstServiceData.size() != secondServiceData.size()) {
+            return false;
+        }
+        for (Map.Entry<String, byte[]> entry : firstServiceData.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), secondServiceData.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private class Subscription implements BluetoothDeviceListener {
+        private final BluetoothDeviceListener listener;
+
+        private @Nullable BluetoothScanNotification lastForwarded;
+        private long lastForwardTime;
+        private double smoothedRssi = Double.NaN;
+
+        Subscription(BluetoothDeviceListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
+            long now = nanoTime.getAsLong();
+            ingested.increment();
+            logStatistics(now);
+
+            BluetoothScanNotification forwardedNotification;
+            synchronized (this) {
+                int rssi = scanNotification.getRssi();
+                if (rssi != Integer.MIN_VALUE) {
+                    smoothedRssi = Double.isNaN(smoothedRssi) ? rssi
+                            : smoothedRssi + RSSI_SMOOTHING_FACTOR * (rssi - smoothedRssi);
+                }
+                if (!shouldForward(scanNotification, now)) {
+                    return;
+                }
+                forwardedNotification = Double.isNaN(smoothedRssi) ? scanNotification
+                        : scanNotification.withRssi((int) Math.round(smoothedRssi));
+                lastForwarded = forwardedNotification;
+                lastForwardTime = now;
+            }
+            forwarded.increment();
+            listener.onScanRecordReceived(forwardedNotification);
+        }
+
+        private boolean shouldForward(BluetoothScanNotification scanNotification, long now) {
+            BluetoothScanNotification last = lastForwarded;
+            if (last == null) {
+                return true;
+            }
+            long elapsed = now - lastForwardTime;
+            if (elapsed >= Math.max(minIntervalNanos, KEEPALIVE_INTERVAL.toNanos())) {
+                return true;
+            }
+            if (elapsed < minIntervalNanos) {
+                return false;
+            }
+            return !samePayload(last, scanNotification) || rssiChanged(last);
+        }
+
+        private boolean rssiChanged(BluetoothScanNotification last) {
+            if (Double.isNaN(smoothedRssi)) {
+                return false;
+            }
+            int lastRssi = last.getRssi();
+            return lastRssi == Integer.MIN_VALUE
+                    || Math.abs(Math.round(smoothedRssi) - lastRssi) >= RSSI_CHANGE_THRESHOLD;
+        }
+
+        @Override
+        public void onConnectionStateChange(BluetoothConnectionStatusNotification connectionNotification) {
+            listener.onConnectionStateChange(connectionNotification);
+        }
+
+        @Override
+        public void onServicesDiscovered() {
+            listener.onServicesDiscovered();
+        }
+
+        @Override
+        public void onCharacteristicUpdate(BluetoothCharacteristic characteristic, byte[] value) {
+            listener.onCharacteristicUpdate(characteristic, value);
+        }
+
+        @Override
+        public void onDescriptorUpdate(BluetoothDescriptor bluetoothDescriptor, byte[] value) {
+            listener.onDescriptorUpdate(bluetoothDescriptor, value);
+        }
+
+        @Override
+        public void onAdapterChanged(BluetoothAdapter adapter) {
+            synchronized (this) {
+                // the RSSI measured by another adapter is not comparable
+                smoothedRssi = Double.NaN;
+            }
+            listener.onAdapterChanged(adapter);
+        }
+    }
+}
@@ -13,21 +13,24 @@
 package org.openhab.binding.bluetooth.discovery.internal;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.bluetooth.BluetoothAdapter;
-import org.openhab.binding.bluetooth.BluetoothAddress;
 import org.openhab.binding.bluetooth.BluetoothBindingConstants;
 import org.openhab.binding.bluetooth.BluetoothDevice;
 import org.openhab.binding.bluetooth.BluetoothDiscoveryListener;
@@ -64,15 +67,36 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
 
     private static final int SEARCH_TIME = 15;
 
+    // maximum number of devices whose discoveries are remembered, the least recently seen ones are dropped first
+    static final int MAX_DISCOVERY_CACHES = 1000;
+    // devices that have not been seen for this time are forgotten, their results have expired from the inbox by then
+    static final Duration DISCOVERY_CACHE_EXPIRY = Duration.ofMinutes(10);
+    // the result of an unchanged device is republished without asking the participants again within this time
+    static final Duration REDISCOVERY_INTERVAL = Duration.ofMinutes(15);
+
     private final Set<BluetoothAdapter> adapters = new CopyOnWriteArraySet<>();
     private final Set<BluetoothDiscoveryParticipant> participants = new CopyOnWriteArraySet<>();
-    @NonNullByDefault({})
-    private final Map<BluetoothAddress, DiscoveryCache> discoveryCaches = new ConcurrentHashMap<>();
+    // keyed by BluetoothAddress.toLong(), ordered from the least to the most recently discovered device
+    private final LinkedHashMap<Long, DiscoveryCache> discoveryCaches;
+    private final LongSupplier nanoTime;
 
     private final Set<ThingTypeUID> supportedThingTypes = new CopyOnWriteArraySet<>();
 
     public BluetoothDiscoveryService() {
+        this(MAX_DISCOVERY_CACHES, System::nanoTime);
+    }
+
+    BluetoothDiscoveryService(int maxDiscoveryCaches, LongSupplier nanoTime) {
         super(SEARCH_TIME);
+        this.nanoTime = nanoTime;
+        this.discoveryCaches = new LinkedHashMap<>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<Long, DiscoveryCache> eldest) {
+                return size() > maxDiscoveryCaches;
+            }
+        };
         supportedThingTypes.add(BluetoothBindingConstants.THING_TYPE_BEACON);
     }
 
@@ -138,7 +162,11 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
         // The method `removeOlderResults()` removes the Things from listeners like `Inbox`.
         // We therefore need to reset `latestSnapshot` so that the Things are notified again next time.
         // Results newer than `getTimestampOfLastScan()` will also be notified again but do not lead to duplicates.
-        discoveryCaches.values().forEach(discoveryCache -> {
+        List<DiscoveryCache> caches;
+        synchronized (discoveryCaches) {
+            caches = new ArrayList<>(discoveryCaches.values());
+        }
+        caches.forEach(discoveryCache -> {
             discoveryCache.latestSnapshot.putValue(null);
         });
         removeOlderResults(getTimestampOfLastScan());
@@ -146,18 +174,53 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
 
     @Override
     public void deviceRemoved(BluetoothDevice device) {
-        discoveryCaches.computeIfPresent(device.getAddress(), (addr, cache) -> cache.removeDiscoveries(device));
+        synchronized (discoveryCaches) {
+            DiscoveryCache cache = discoveryCaches.get(device.getAddress().toLong());
+            if (cache != null && cache.removeDiscoveries(device) == null) {
+                discoveryCaches.remove(device.getAddress().toLong());
+            }
+        }
     }
 
     @Override
     public void deviceDiscovered(BluetoothDevice device) {
         logger.debug("Discovered bluetooth device '{}': {}", device.getName(), device);
 
-        DiscoveryCache cache = Objects
-                .requireNonNull(discoveryCaches.computeIfAbsent(device.getAddress(), addr -> new DiscoveryCache()));
+        long key = device.getAddress().toLong();
+        long now = nanoTime.getAsLong();
+        DiscoveryCache cache;
+        synchronized (discoveryCaches) {
+            removeExpiredDiscoveryCaches(now);
+            // reinsert the cache to move it to the end of the iteration order
+            DiscoveryCache existingCache = discoveryCaches.remove(key);
+            cache = existingCache != null ? existingCache : new DiscoveryCache();
+            cache.lastSeen = now;
+            discoveryCaches.put(key, cache);
+        }
         cache.handleDiscovery(device);
     }
 
+    /**
+     * Forgets the devices that have not been seen for {@link #DISCOVERY_CACHE_EXPIRY}. Since the caches are ordered
+     * by the time they were last discovered, only the expired ones and the first valid one need to be visited.
+     */
+    private void removeExpiredDiscoveryCaches(long now) {
+        long expiry = DISCOVERY_CACHE_EXPIRY.toNanos();
+        Iterator<DiscoveryCache> iterator = discoveryCaches.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().lastSeen < expiry) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+
+    int getDiscoveryCacheCount() {
+        synchronized (discoveryCaches) {
+            return discoveryCaches.size();
+        }
+    }
+
     private static ThingUID createThingUIDWithBridge(DiscoveryResult result, BluetoothAdapter adapter) {
         return new ThingUID(result.getThingTypeUID(), adapter.getUID(), result.getThingUID().getId());
     }
@@ -178,19 +241,25 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
 
         private final Map<BluetoothAdapter, SnapshotFuture> discoveryFutures = new HashMap<>();
         private final Map<BluetoothAdapter, Set<DiscoveryResult>> discoveryResults = new ConcurrentHashMap<>();
+        // the latest discovery per adapter that waits for the ongoing discoveries to finish
+        private final Map<BluetoothAdapter, BluetoothDevice> pendingDiscoveries = new HashMap<>();
 
         private ExpiringCache<BluetoothDeviceSnapshot> latestSnapshot = new ExpiringCache<>(Duration.ofMinutes(1),
                 () -> null);
 
+        // the time this device was last discovered on any adapter, guarded by the discoveryCaches lock
+        private long lastSeen;
+
         /**
-         * This is meant to be used as part of a Map.compute function
+         * Removes the discoveries of a device that has been removed from its adapter
          *
          * @param device the device to remove from this cache
-         * @return this DiscoveryCache if there are still snapshots, null otherwise
+         * @return this DiscoveryCache if there are still snapshots, null if the cache can be removed
          */
         public synchronized @Nullable DiscoveryCache removeDiscoveries(final BluetoothDevice device) {
             // we remove any discoveries that have been published for this device
             BluetoothAdapter adapter = device.getAdapter();
+            pendingDiscoveries.remove(adapter);
             if (discoveryFutures.containsKey(adapter)) {
                 @Nullable
                 SnapshotFuture ssFuture = discoveryFutures.remove(adapter);
@@ -206,16 +275,28 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
 
         public synchronized void handleDiscovery(BluetoothDevice device) {
             if (!discoveryFutures.isEmpty()) {
+                BluetoothAdapter adapter = device.getAdapter();
+                if (pendingDiscoveries.put(adapter, device) != null) {
+                    // a discovery for this adapter is already waiting, it will use the latest state of the device
+                    return;
+                }
                 CompletableFuture
                         // we have an ongoing futures so lets create our discovery after they all finish
                         .allOf(discoveryFutures.values().stream().map(sf -> sf.future)
                                 .toArray(CompletableFuture[]::new))
-                        .thenRun(() -> createDiscoveryFuture(device));
+                        .whenComplete((r, t) -> createPendingDiscoveryFuture(adapter));
             } else {
                 createDiscoveryFuture(device);
             }
         }
 
+        private synchronized void createPendingDiscoveryFuture(BluetoothAdapter adapter) {
+            BluetoothDevice device = pendingDiscoveries.remove(adapter);
+            if (device != null) {
+                createDiscoveryFuture(device);
+            }
+        }
+
         private synchronized void createDiscoveryFuture(BluetoothDevice device) {
             BluetoothAdapter adapter = device.getAdapter();
             CompletableFuture<DiscoveryResult> future = null;
@@ -247,6 +328,8 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
                         future = otherFuture.get();
                     }
                 }
+            } else if (republishUnchangedResult(adapter, snapshot)) {
+                return;
             }
             this.latestSnapshot.putValue(snapshot);
 
@@ -288,7 +371,33 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
             });
 
             // now save this snapshot for later
-            discoveryFutures.put(adapter, new SnapshotFuture(snapshot, future));
+            discoveryFutures.put(adapter, new SnapshotFuture(snapshot, future, nanoTime.getAsLong()));
+        }
+
+        /**
+         * The latest snapshot expires regularly, so that the results are published again before they expire from the
+         * inbox. If the device did not change since this adapter produced its result, the result is published again
+         * without running the participants.
+         *
+         * @return true if the result has been published again
+         */
+        private boolean republishUnchangedResult(BluetoothAdapter adapter, BluetoothDeviceSnapshot snapshot) {
+            SnapshotFuture previous = discoveryFutures.get(adapter);
+            if (previous == null || !previous.future.isDone() || previous.future.isCompletedExceptionally()
+                    || nanoTime.getAsLong() - previous.time >= REDISCOVERY_INTERVAL.toNanos()) {
+                return false;
+            }
+            snapshot.merge(previous.snapshot);
+            if (!snapshot.equals(previous.snapshot)) {
+                return false;
+            }
+            Set<DiscoveryResult> results = discoveryResults.get(adapter);
+            if (results == null) {
+                return false;
+            }
+            this.latestSnapshot.putValue(previous.snapshot);
+            results.forEach(BluetoothDiscoveryService.this::thingDiscovered);
+            return true;
         }
 
         private void publishDiscoveryResult(BluetoothAdapter adapter, DiscoveryResult result) {
@@ -329,10 +438,13 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
     private static class SnapshotFuture {
         public final BluetoothDeviceSnapshot snapshot;
         public final CompletableFuture<DiscoveryResult> future;
+        public final long time;
 
-        public SnapshotFuture(BluetoothDeviceSnapshot snapshot, CompletableFuture<DiscoveryResult> future) {
+        public SnapshotFuture(BluetoothDeviceSnapshot snapshot, CompletableFuture<DiscoveryResult> future,
+                long time) {
             this.snapshot = snapshot;
             this.future = future;
+            this.time = time;
         }
     }
 }
@@ -163,4 +163,22 @@ public class BluetoothScanNotification extends BluetoothNotification {
     public String getDeviceName() {
         return name;
     }
+
+    /**
+     * Creates a copy of this notification with a different RSSI value
+     *
+     * @param rssi the RSSI value of the copy in dBm
+     * @return the copy
+     */
+    public BluetoothScanNotification withRssi(int rssi) {
+        BluetoothScanNotification copy = new BluetoothScanNotification();
+        copy.address = address;
+        copy.rssi = rssi;
+        copy.data = data;
+        copy.manufacturerData = manufacturerData;
+        copy.serviceData = serviceData;
+        copy.beaconType = beaconType;
+        copy.name = name;
+        return copy;
+    }
 }
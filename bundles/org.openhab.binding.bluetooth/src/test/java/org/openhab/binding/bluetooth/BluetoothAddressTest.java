@@ -12,7 +12,7 @@
  */
 package org.openhab.binding.bluetooth;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -39,4 +39,10 @@ public class BluetoothAddressTest {
     public void testConstructorCorrect() {
         new BluetoothAddress("12:34:56:78:9A:BC");
     }
+
+    @Test
+    public void testToLong() {
+        assertEquals(0x123456789ABCL, new BluetoothAddress("12:34:56:78:9A:BC").toLong());
+        assertEquals(0xFFFFFFFFFFFFL, new BluetoothAddress("FF:FF:FF:FF:FF:FF").toLong());
+    }
 }
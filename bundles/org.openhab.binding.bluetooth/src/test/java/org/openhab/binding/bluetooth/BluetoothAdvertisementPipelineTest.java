@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link BluetoothAdvertisementPipeline}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BluetoothAdvertisementPipelineTest {
+
+    private long now;
+    private @NonNullByDefault({}) BluetoothDeviceListener handler;
+    private @NonNullByDefault({}) BluetoothAdvertisementPipeline pipeline;
+    private @NonNullByDefault({}) BluetoothDeviceListener subscription;
+
+    @BeforeEach
+    public void setUp() {
+        handler = mock(BluetoothDeviceListener.class);
+        pipeline = new BluetoothAdvertisementPipeline("test", () -> now);
+        subscription = pipeline.subscribe(handler);
+    }
+
+    private static BluetoothScanNotification advertisement(int rssi, int value) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        notification.setServiceData(Map.of("0000fcd2-0000-1000-8000-00805f9b34fb", new byte[] { 0x40, (byte) value }));
+        return notification;
+    }
+
+    private void receive(long elapsedMillis, BluetoothScanNotification notification) {
+        now += Duration.ofMillis(elapsedMillis).toNanos();
+        subscription.onScanRecordReceived(notification);
+    }
+
+    @Test
+    public void testRepeatedAdvertisementsAreDropped() {
+        receive(0, advertisement(-70, 1));
+        for (int i = 0; i < 20; i++) {
+            receive(100, advertisement(-70, 1));
+        }
+        verify(handler, times(1)).onScanRecordReceived(any());
+
+        receive(100, advertisement(-70, 2));
+        verify(handler, times(2)).onScanRecordReceived(any());
+
+        assertEquals(22, pipeline.getIngestedCount());
+        assertEquals(2, pipeline.getForwardedCount());
+    }
+
+    @Test
+    public void testKeepaliveIsForwarded() {
+        receive(0, advertisement(-70, 1));
+        receive(BluetoothAdvertisementPipeline.KEEPALIVE_INTERVAL.toMillis() - 1, advertisement(-70, 1));
+        verify(handler, times(1)).onScanRecordReceived(any());
+
+        receive(1, advertisement(-70, 1));
+        verify(handler, times(2)).onScanRecordReceived(any());
+    }
+
+    @Test
+    public void testMinIntervalDelaysChanges() {
+        pipeline.setMinInterval(Duration.ofSeconds(10));
+        receive(0, advertisement(-70, 1));
+        receive(5000, advertisement(-70, 2));
+        verify(handler, times(1)).onScanRecordReceived(any());
+
+        receive(5000, advertisement(-70, 3));
+        ArgumentCaptor<BluetoothScanNotification> captor = ArgumentCaptor.forClass(BluetoothScanNotification.class);
+        verify(handler, times(2)).onScanRecordReceived(captor.capture());
+        assertEquals(3, captor.getValue().getServiceData().values().iterator().next()[1]);
+    }
+
+    @Test
+    public void testRssiIsSmoothed() {
+        receive(0, advertisement(-70, 1));
+        // a single outlier moves the smoothed value by a quarter of the difference only
+        receive(100, advertisement(-78, 1));
+        verify(handler, times(1)).onScanRecordReceived(any());
+
+        receive(100, advertisement(-78, 1));
+        ArgumentCaptor<BluetoothScanNotification> captor = ArgumentCaptor.forClass(BluetoothScanNotification.class);
+        verify(handler, times(2)).onScanRecordReceived(captor.capture());
+        assertEquals(-73, captor.getValue().getRssi());
+    }
+
+    @Test
+    public void testRssiIsNotSmoothedAcrossAdapters() {
+        receive(0, advertisement(-70, 1));
+        BluetoothAdapter adapter = mock(BluetoothAdapter.class);
+        subscription.onAdapterChanged(adapter);
+        verify(handler).onAdapterChanged(adapter);
+
+        receive(100, advertisement(-90, 1));
+        ArgumentCaptor<BluetoothScanNotification> captor = ArgumentCaptor.forClass(BluetoothScanNotification.class);
+        verify(handler, times(2)).onScanRecordReceived(captor.capture());
+        assertEquals(-90, captor.getValue().getRssi());
+    }
+
+    @Test
+    public void testOtherEventsArePassedThrough() {
+        subscription.onServicesDiscovered();
+        verify(handler).onServicesDiscovered();
+    }
+}
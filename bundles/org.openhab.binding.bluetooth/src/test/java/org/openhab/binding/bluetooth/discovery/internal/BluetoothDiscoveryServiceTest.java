@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -503,6 +504,48 @@ public class BluetoothDiscoveryServiceTest {
         assertEquals(result1.getId(), result2.getId());
     }
 
+    @Test
+    public void unchangedDeviceIsRepublishedWithoutParticipantsTest() {
+        MockBluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
+        MockBluetoothDevice device = mockAdapter1.getDevice(TestUtils.randomAddress());
+        discoveryService.deviceDiscovered(device);
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(1))
+                .thingDiscovered(ArgumentMatchers.same(discoveryService), ArgumentMatchers.any());
+
+        // stopping the scan resets the latest snapshots, so the result must be published again
+        discoveryService.stopScan();
+        discoveryService.deviceDiscovered(device);
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(2))
+                .thingDiscovered(ArgumentMatchers.same(discoveryService), ArgumentMatchers.any());
+        Mockito.verify(participant1, Mockito.times(1)).createResult(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void discoveryCacheBoundTest() {
+        discoveryService = new BluetoothDiscoveryService(2, System::nanoTime);
+        MockBluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
+        for (int i = 0; i < 5; i++) {
+            discoveryService.deviceDiscovered(mockAdapter1.getDevice(TestUtils.randomAddress()));
+        }
+
+        assertEquals(2, discoveryService.getDiscoveryCacheCount());
+    }
+
+    @Test
+    public void discoveryCacheExpiryTest() {
+        AtomicLong now = new AtomicLong();
+        discoveryService = new BluetoothDiscoveryService(BluetoothDiscoveryService.MAX_DISCOVERY_CACHES, now::get);
+        MockBluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
+        discoveryService.deviceDiscovered(mockAdapter1.getDevice(TestUtils.randomAddress()));
+        discoveryService.deviceDiscovered(mockAdapter1.getDevice(TestUtils.randomAddress()));
+        assertEquals(2, discoveryService.getDiscoveryCacheCount());
+
+        now.addAndGet(BluetoothDiscoveryService.DISCOVERY_CACHE_EXPIRY.toNanos());
+        discoveryService.deviceDiscovered(mockAdapter1.getDevice(TestUtils.randomAddress()));
+        assertEquals(1, discoveryService.getDiscoveryCacheCount());
+    }
+
     private class RoamingDiscoveryParticipant implements BluetoothDiscoveryParticipant {
 
         private MockBluetoothAdapter roamingAdapter = new MockBluetoothAdapter();
@@ -18,12 +18,14 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.IllegalFormatException;
 import java.util.Objects;
+import java.util.Scanner;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
@@ -84,13 +86,24 @@ public class ExecHandler extends BaseThingHandler {
     public static final String COMMAND = "command";
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
+    public static final String STREAMING = "streaming";
+    public static final String DELIMITER = "delimiter";
 
     // RegEx to extract a parse a function String <code>'(.*?)\((.*)\)'</code>
     private static final Pattern EXTRACT_FUNCTION_PATTERN = Pattern.compile("(.*?)\\((.*)\\)");
 
+    // Records of a streaming command are separated by line breaks unless a delimiter is configured
+    private static final Pattern LINE_DELIMITER = Pattern.compile("\\r?\\n");
+    private static final Duration STREAM_RESTART_DELAY_MIN = Duration.ofSeconds(1);
+    private static final Duration STREAM_RESTART_DELAY_MAX = Duration.ofMinutes(5);
+
     private @Nullable ScheduledFuture<?> executionJob;
     private @Nullable String lastInput;
 
+    private volatile @Nullable Thread streamThread;
+    private volatile @Nullable Process streamProcess;
+    private volatile boolean streamRestartRequested;
+
     private static Runtime rt = Runtime.getRuntime();
 
     public ExecHandler(Thing thing, ExecWhitelistWatchService execWhitelistWatchService) {
@@ -107,7 +120,11 @@ public class ExecHandler extends BaseThingHandler {
             if (channelUID.getId().equals(RUN)) {
                 if (command instanceof OnOffType) {
                     if (command == OnOffType.ON) {
-                        scheduler.schedule(this::execute, 0, TimeUnit.SECONDS);
+                        if (isStreaming()) {
+                            restartStreaming();
+                        } else {
+                            scheduler.schedule(this::execute, 0, TimeUnit.SECONDS);
+                        }
                     }
                 }
             } else if (channelUID.getId().equals(INPUT)) {
@@ -118,7 +135,11 @@ public class ExecHandler extends BaseThingHandler {
                         if (getConfig().get(AUTORUN) != null && ((Boolean) getConfig().get(AUTORUN))) {
                             logger.trace("Executing command '{}' after a change of the input channel to '{}'",
                                     getConfig().get(COMMAND), lastInput);
-                            scheduler.schedule(this::execute, 0, TimeUnit.SECONDS);
+                            if (isStreaming()) {
+                                restartStreaming();
+                            } else {
+                                scheduler.schedule(this::execute, 0, TimeUnit.SECONDS);
+                            }
                         }
                     }
                 }
@@ -128,7 +149,9 @@ public class ExecHandler extends BaseThingHandler {
 
     @Override
     public void initialize() {
-        if (executionJob == null || executionJob.isCancelled()) {
+        if (isStreaming()) {
+            startStreaming();
+        } else if (executionJob == null || executionJob.isCancelled()) {
             if ((getConfig().get(INTERVAL)) != null && ((BigDecimal) getConfig().get(INTERVAL)).intValue() > 0) {
                 int pollingInterval = ((BigDecimal) getConfig().get(INTERVAL)).intValue();
                 executionJob = scheduler.scheduleWithFixedDelay(this::execute, 0, pollingInterval, TimeUnit.SECONDS);
@@ -144,6 +167,173 @@ public class ExecHandler extends BaseThingHandler {
             executionJob.cancel(true);
             executionJob = null;
         }
+        stopStreaming();
+    }
+
+    private boolean isStreaming() {
+        return getConfig().get(STREAMING) != null && ((Boolean) getConfig().get(STREAMING));
+    }
+
+    private void startStreaming() {
+        Thread thread = new Thread(this::stream, "OH-binding-" + thing.getUID() + "-stream");
+        thread.setDaemon(true);
+        streamThread = thread;
+        thread.start();
+    }
+
+    private void stopStreaming() {
+        Thread thread = streamThread;
+        streamThread = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        destroyStreamProcess();
+    }
+
+    private void restartStreaming() {
+        Thread thread = streamThread;
+        if (thread == null || !thread.isAlive()) {
+            // the command was not started or could not be prepared, try again
+            startStreaming();
+            return;
+        }
+        // the streaming thread starts the process again without waiting for the restart delay
+        streamRestartRequested = true;
+        destroyStreamProcess();
+        thread.interrupt();
+    }
+
+    private void destroyStreamProcess() {
+        Process process = streamProcess;
+        if (process != null) {
+            // the command is usually started by a shell, so its children have to be terminated as well
+            process.descendants().forEach(ProcessHandle::destroy);
+            process.destroy();
+        }
+    }
+
+    /**
+     * Keeps the command running and updates the output channel with each record it writes to stdout. The command is
+     * started again when it exits, with a delay that doubles after each exit that followed shortly after the start.
+     */
+    private void stream() {
+        Duration restartDelay = STREAM_RESTART_DELAY_MIN;
+        while (streamThread == Thread.currentThread()) {
+            String commandLine = (String) getConfig().get(COMMAND);
+            if (!execWhitelistWatchService.isWhitelisted(commandLine)) {
+                logger.warn("Tried to execute '{}', but it is not contained in whitelist.", commandLine);
+                return;
+            }
+            if (commandLine == null || commandLine.isEmpty()) {
+                return;
+            }
+            String[] cmdArray = prepareCommand(commandLine);
+            if (cmdArray == null) {
+                return;
+            }
+
+            long startTime = System.nanoTime();
+            streamRestartRequested = false;
+            Thread.interrupted();
+            runStreamingProcess(cmdArray);
+
+            if (streamThread != Thread.currentThread()) {
+                return;
+            }
+            if (streamRestartRequested) {
+                restartDelay = STREAM_RESTART_DELAY_MIN;
+                continue;
+            }
+            if (Duration.ofNanos(System.nanoTime() - startTime).compareTo(STREAM_RESTART_DELAY_MAX) >= 0) {
+                // the command ran for a while, so this is not a restart loop
+                restartDelay = STREAM_RESTART_DELAY_MIN;
+            }
+            logger.debug("Streaming command '{}' exited, restarting in {} s", commandLine, restartDelay.toSeconds());
+            try {
+                Thread.sleep(restartDelay.toMillis());
+            } catch (InterruptedException e) {
+                // stopped or restart requested, checked above
+                continue;
+            }
+            restartDelay = restartDelay.multipliedBy(2);
+            if (restartDelay.compareTo(STREAM_RESTART_DELAY_MAX) > 0) {
+                restartDelay = STREAM_RESTART_DELAY_MAX;
+            }
+        }
+    }
+
+    private void runStreamingProcess(String[] cmdArray) {
+        logger.trace("The streaming command to be executed will be '{}'", Arrays.asList(cmdArray));
+
+        Process process;
+        try {
+            // stderr is part of the output, like for a single execution
+            process = new ProcessBuilder(cmdArray).redirectErrorStream(true).start();
+        } catch (IOException e) {
+            logger.warn("An exception occurred while executing '{}' : '{}'", Arrays.asList(cmdArray),
+                    e.getMessage());
+            if (streamThread == Thread.currentThread()) {
+                updateState(OUTPUT, new StringType(e.getMessage()));
+            }
+            return;
+        }
+        streamProcess = process;
+        if (streamThread != Thread.currentThread() || streamRestartRequested) {
+            // stopped or restarted while the process was started, destroyStreamProcess() did not see the process
+            destroyStreamProcess();
+        } else {
+            updateState(RUN, OnOffType.ON);
+        }
+
+        Pattern delimiter = LINE_DELIMITER;
+        String delimiterConfig = (String) getConfig().get(DELIMITER);
+        if (delimiterConfig != null && !delimiterConfig.isEmpty()) {
+            try {
+                delimiter = Pattern.compile(delimiterConfig);
+            } catch (PatternSyntaxException e) {
+                logger.warn("Invalid delimiter '{}', splitting the output by lines: {}", delimiterConfig,
+                        e.getMessage());
+            }
+        }
+        String transformation = (String) getConfig().get(TRANSFORM);
+
+        try (Scanner scanner = new Scanner(process.getInputStream())) {
+            scanner.useDelimiter(delimiter);
+            while (scanner.hasNext()) {
+                String output = scanner.next();
+                if (streamThread != Thread.currentThread()) {
+                    // the handler has been disposed
+                    break;
+                }
+                if (output.isEmpty()) {
+                    continue;
+                }
+                logger.debug("Exec [{}]: '{}'", "OUTPUT", output);
+                String response = output;
+                if (transformation != null && transformation.length() > 0) {
+                    response = transformResponse(output, transformation);
+                }
+                updateState(OUTPUT, new StringType(response));
+                updateState(LAST_EXECUTION, new DateTimeType(ZonedDateTime.now()));
+            }
+        }
+
+        try {
+            process.waitFor();
+        } catch (InterruptedException e) {
+            // the output has been closed, so the process is already terminating
+            destroyStreamProcess();
+            Thread.currentThread().interrupt();
+        }
+        streamProcess = null;
+        if (streamThread != Thread.currentThread()) {
+            // the handler has been disposed, the states belong to the next handler
+            return;
+        }
+        updateState(RUN, OnOffType.OFF);
+        if (!process.isAlive()) {
+            updateState(EXIT, new DecimalType(process.exitValue()));
+        }
     }
 
     public void execute() {
@@ -170,63 +360,8 @@ public class ExecHandler extends BaseThingHandler {
             // problem for external commands that generate a lot of output, but this will be dependent on the limits
             // of the underlying operating system.
 
-            Date date = Calendar.getInstance().getTime();
-            try {
-                if (lastInput != null) {
-                    commandLine = String.format(commandLine, date, lastInput);
-                } else {
-                    commandLine = String.format(commandLine, date);
-                }
-            } catch (IllegalFormatException e) {
-                logger.warn(
-                        "An exception occurred while formatting the command line '{}' with the current time '{}' and input value '{}': {}",
-                        commandLine, date, lastInput, e.getMessage());
-                updateState(RUN, OnOffType.OFF);
-                updateState(OUTPUT, new StringType(e.getMessage()));
-                return;
-            }
-
-            String[] cmdArray;
-            String[] shell;
-            if (commandLine.contains(CMD_LINE_DELIMITER)) {
-                logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
-                try {
-                    cmdArray = commandLine.split(CMD_LINE_DELIMITER);
-                } catch (PatternSyntaxException e) {
-                    logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    return;
-                }
-            } else {
-                // Invoke shell with 'c' option and pass string
-                logger.debug("Passing to shell for parsing command.");
-                switch (getOperatingSystemType()) {
-                    case WINDOWS:
-                        shell = SHELL_WINDOWS;
-                        logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "/c", commandLine);
-                        break;
-                    case LINUX:
-                    case MAC:
-                    case BSD:
-                    case SOLARIS:
-                        // assume sh is present, should all be POSIX-compliant
-                        shell = SHELL_NIX;
-                        logger.debug("OS: *NIX ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "-c", commandLine);
-                        break;
-                    default:
-                        logger.debug("OS: Unknown ({})", getOperatingSystemName());
-                        logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
-                        updateState(RUN, OnOffType.OFF);
-                        updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
-                        return;
-                }
-            }
-
-            if (cmdArray.length == 0) {
-                logger.trace("Empty command received, not executing");
+            String[] cmdArray = prepareCommand(commandLine);
+            if (cmdArray == null) {
                 return;
             }
 
@@ -304,6 +439,75 @@ public class ExecHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Formats the command line with the current date and the last input and splits it into the command array.
+     *
+     * @param commandLine the configured command line
+     * @return the command array or {@code null} if the command line is invalid or empty
+     */
+    private String @Nullable [] prepareCommand(String commandLine) {
+        Date date = Calendar.getInstance().getTime();
+        try {
+            if (lastInput != null) {
+                commandLine = String.format(commandLine, date, lastInput);
+            } else {
+                commandLine = String.format(commandLine, date);
+            }
+        } catch (IllegalFormatException e) {
+            logger.warn(
+                    "An exception occurred while formatting the command line '{}' with the current time '{}' and input value '{}': {}",
+                    commandLine, date, lastInput, e.getMessage());
+            updateState(RUN, OnOffType.OFF);
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            return null;
+        }
+
+        String[] cmdArray;
+        String[] shell;
+        if (commandLine.contains(CMD_LINE_DELIMITER)) {
+            logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
+            try {
+                cmdArray = commandLine.split(CMD_LINE_DELIMITER);
+            } catch (PatternSyntaxException e) {
+                logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
+                updateState(RUN, OnOffType.OFF);
+                updateState(OUTPUT, new StringType(e.getMessage()));
+                return null;
+            }
+        } else {
+            // Invoke shell with 'c' option and pass string
+            logger.debug("Passing to shell for parsing command.");
+            switch (getOperatingSystemType()) {
+                case WINDOWS:
+                    shell = SHELL_WINDOWS;
+                    logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "/c", commandLine);
+                    break;
+                case LINUX:
+                case MAC:
+                case BSD:
+                case SOLARIS:
+                    // assume sh is present, should all be POSIX-compliant
+                    shell = SHELL_NIX;
+                    logger.debug("OS: *NIX ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "-c", commandLine);
+                    break;
+                default:
+                    logger.debug("OS: Unknown ({})", getOperatingSystemName());
+                    logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
+                    updateState(RUN, OnOffType.OFF);
+                    updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
+                    return null;
+            }
+        }
+
+        if (cmdArray.length == 0) {
+            logger.trace("Empty command received, not executing");
+            return null;
+        }
+        return cmdArray;
+    }
+
     protected @Nullable String transformResponse(String response, String transformation) {
         String transformedResponse;
 
@@ -19,6 +19,7 @@ import static org.openhab.binding.http.internal.HttpBindingConstants.REQUEST_DAT
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
@@ -29,6 +30,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -40,6 +42,7 @@ import org.eclipse.jetty.client.util.DigestAuthentication;
 import org.openhab.binding.http.internal.config.HttpChannelConfig;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.binding.http.internal.http.HttpAuthException;
+import org.openhab.binding.http.internal.http.HttpFetchCache;
 import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
@@ -88,6 +91,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final Logger logger = LoggerFactory.getLogger(HttpThingHandler.class);
     private final HttpClientProvider httpClientProvider;
     private final RateLimitedHttpClient rateLimitedHttpClient;
+    private final HttpFetchCache fetchCache;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
 
@@ -95,12 +99,14 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
     private final Map<ChannelUID, ChannelHandler> channels = new HashMap<>();
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
+    private final Map<ChannelUID, Consumer<@Nullable ChannelHandlerContent>> stateConsumers = new HashMap<>();
 
-    public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
+    public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider, HttpFetchCache fetchCache,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
             TimeZoneProvider timeZoneProvider) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
+        this.fetchCache = fetchCache;
         this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
@@ -116,13 +122,14 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
 
         if (command instanceof RefreshType) {
             String key = channelUrls.get(channelUID);
-            if (key != null) {
+            Consumer<@Nullable ChannelHandlerContent> stateConsumer = stateConsumers.get(channelUID);
+            if (key != null && stateConsumer != null) {
                 RefreshingUrlCache refreshingUrlCache = urlHandlers.get(key);
                 if (refreshingUrlCache != null) {
                     try {
-                        refreshingUrlCache.get().ifPresentOrElse(itemValueConverter::process, () -> {
+                        refreshingUrlCache.get().ifPresentOrElse(stateConsumer::accept, () -> {
                             if (config.strictErrorHandling) {
-                                itemValueConverter.process(null);
+                                stateConsumer.accept(null);
                             }
                         });
                     } catch (IllegalArgumentException | IllegalStateException e) {
@@ -133,6 +140,12 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         } else {
             try {
                 itemValueConverter.send(command);
+                // the command may change the state even if the device ignores it, so the next refresh must update it
+                String key = channelUrls.get(channelUID);
+                RefreshingUrlCache refreshingUrlCache = key != null ? urlHandlers.get(key) : null;
+                if (refreshingUrlCache != null) {
+                    refreshingUrlCache.forceUpdate();
+                }
             } catch (IllegalArgumentException e) {
                 logger.warn("Failed to convert command '{}' to channel '{}' for sending", command, channelUID);
             } catch (IllegalStateException e) {
@@ -251,6 +264,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         urlHandlers.clear();
         channels.clear();
         channelUrls.clear();
+        stateConsumers.clear();
 
         // remove state descriptions
         httpDynamicStateDescriptionProvider.removeDescriptionsForThing(thing.getUID());
@@ -281,6 +295,13 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             return;
         }
 
+        // a leading JSONPATH transformation is evaluated on the response parsed once for all channels of the URL
+        JsonPathStateTransformation jsonPathTransformation = "Image".equals(acceptedItemType) ? null
+                : JsonPathStateTransformation.parse(channelConfig.stateTransformation);
+        if (jsonPathTransformation != null) {
+            channelConfig.stateTransformation = jsonPathTransformation.getRemainingTransformation();
+        }
+
         ChannelHandler itemValueConverter;
         switch (acceptedItemType) {
             case "Color":
@@ -332,11 +353,14 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             // we need a key consisting of stateContent and URL, only if both are equal, we can use the same cache
             String key = channelConfig.stateContent + "$" + stateUrl;
             channelUrls.put(channelUID, key);
-            Objects.requireNonNull(
-                    urlHandlers.computeIfAbsent(key,
-                            k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config,
-                                    channelConfig.stateContent, config.contentType, this)))
-                    .addConsumer(itemValueConverter::process);
+            RefreshingUrlCache urlHandler = Objects.requireNonNull(urlHandlers.computeIfAbsent(key,
+                    k -> new RefreshingUrlCache(rateLimitedHttpClient, fetchCache, stateUrl, config,
+                            channelConfig.stateContent, config.contentType, this)));
+            Consumer<@Nullable ChannelHandlerContent> stateConsumer = jsonPathTransformation == null
+                    ? itemValueConverter::process
+                    : createJsonPathConsumer(urlHandler, jsonPathTransformation, itemValueConverter);
+            stateConsumers.put(channelUID, stateConsumer);
+            urlHandler.addConsumer(stateConsumer);
         }
 
         StateDescription stateDescription = StateDescriptionFragmentBuilder.create()
@@ -347,6 +371,19 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         }
     }
 
+    private Consumer<@Nullable ChannelHandlerContent> createJsonPathConsumer(RefreshingUrlCache urlHandler,
+            JsonPathStateTransformation jsonPathTransformation, ChannelHandler itemValueConverter) {
+        return content -> {
+            if (content == null) {
+                itemValueConverter.process(null);
+                return;
+            }
+            // the selected value is passed on like the result of the transformation, it is discarded if that fails
+            jsonPathTransformation.apply(content, urlHandler.getJson(content)).ifPresent(value -> itemValueConverter
+                    .process(new ChannelHandlerContent(value.getBytes(StandardCharsets.UTF_8), "UTF-8", null)));
+        };
+    }
+
     @Override
     public void onHttpError(@Nullable String message) {
         updateState(CHANNEL_LAST_FAILURE, new DateTimeType(Instant.now().atZone(timeZoneProvider.getTimeZone())));
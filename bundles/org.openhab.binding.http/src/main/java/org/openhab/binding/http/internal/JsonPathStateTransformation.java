@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+import org.openhab.core.thing.binding.generic.ChannelTransformation;
+
+import com.google.gson.JsonElement;
+
+/**
+ * The {@link JsonPathStateTransformation} is the first step of a state transformation, if it is a JSONPATH
+ * transformation with a {@link SimpleJsonPath}. It is evaluated on the parsed response that is shared by all channels
+ * of a URL. The remaining steps are left to the channel handler.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JsonPathStateTransformation {
+    private static final String TRANSFORMATION_SEPARATOR = "∩";
+    private static final Pattern JSONPATH_STEP_PATTERN = Pattern
+            .compile("JSONPATH\\s*(?:\\((?<function>.*)\\)|:(?<function2>.*))", Pattern.CASE_INSENSITIVE);
+
+    private final SimpleJsonPath path;
+    private final ChannelTransformation transformation;
+    private final @Nullable String remainingTransformation;
+
+    private JsonPathStateTransformation(SimpleJsonPath path, String step, @Nullable String remainingTransformation) {
+        this.path = path;
+        this.transformation = new ChannelTransformation(step);
+        this.remainingTransformation = remainingTransformation;
+    }
+
+    /**
+     * Splits the first step off a state transformation.
+     *
+     * @param stateTransformation the configured state transformation
+     * @return the first step, or null if it is not a JSONPATH transformation with a simple path
+     */
+    public static @Nullable JsonPathStateTransformation parse(@Nullable String stateTransformation) {
+        if (stateTransformation == null || stateTransformation.isBlank()) {
+            return null;
+        }
+        String[] steps = stateTransformation.split(TRANSFORMATION_SEPARATOR);
+        String step = steps[0].trim();
+        Matcher matcher = JSONPATH_STEP_PATTERN.matcher(step);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String function = matcher.group("function");
+        SimpleJsonPath path = SimpleJsonPath.parse(function != null ? function : matcher.group("function2"));
+        if (path == null) {
+            return null;
+        }
+        String remainingTransformation = Arrays.stream(steps, 1, steps.length).map(String::trim)
+                .filter(s -> !s.isEmpty()).collect(Collectors.joining(TRANSFORMATION_SEPARATOR));
+        return new JsonPathStateTransformation(path, step,
+                remainingTransformation.isEmpty() ? null : remainingTransformation);
+    }
+
+    /**
+     * Returns the transformation steps following the JSONPATH step.
+     *
+     * @return the steps, or null if there are none
+     */
+    public @Nullable String getRemainingTransformation() {
+        return remainingTransformation;
+    }
+
+    /**
+     * Selects the value from the response.
+     *
+     * @param content the response
+     * @param document the parsed response, or null if it is not JSON
+     * @return the value, empty if the transformation failed
+     */
+    public Optional<String> apply(ChannelHandlerContent content, @Nullable JsonElement document) {
+        if (document != null) {
+            String value = path.extract(document);
+            if (value != null) {
+                return Optional.of(value);
+            }
+        }
+        // the JSONPATH transformation service formats all other results
+        return transformation.apply(content.getAsString());
+    }
+}
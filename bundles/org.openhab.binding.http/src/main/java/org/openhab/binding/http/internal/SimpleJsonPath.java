@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * A JSONPath expression consisting only of member names and array indices, like <code>$.update.state</code> or
+ * <code>$['color'].x</code>, that can be evaluated on an already parsed JSON document.
+ * <p>
+ * This allows all channels reading fields of the same response to share a single parsed document, instead of
+ * passing the response to the JSONPATH transformation service, which parses it again for every channel. Only results
+ * the transformation service would format in the same way are returned: strings, booleans, and numbers. For all other
+ * results (objects, arrays, null, missing fields) {@link #extract(JsonElement)} returns null, and the caller must fall
+ * back to the transformation service.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleJsonPath {
+    // the JSONPATH transformation parses longer decimal numbers as BigDecimal, shorter ones as Double
+    private static final int MAX_DOUBLE_LENGTH = 18;
+
+    private final List<Object> segments;
+
+    private SimpleJsonPath(List<Object> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Parses a JSONPath expression.
+     *
+     * @param expression the expression
+     * @return the path, or null if the expression uses more than member names and array indices
+     */
+    public static @Nullable SimpleJsonPath parse(String expression) {
+        String path = expression.trim();
+        if (!path.startsWith("$")) {
+            return null;
+        }
+        List<Object> segments = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < path.length() && isNameChar(path.charAt(i))) {
+                    i++;
+                }
+                if (i == start) {
+                    return null;
+                }
+                segments.add(path.substring(start, i));
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    return null;
+                }
+                String selector = path.substring(i + 1, end).trim();
+                if (selector.length() >= 2 && (selector.charAt(0) == '\'' || selector.charAt(0) == '"')
+                        && selector.charAt(selector.length() - 1) == selector.charAt(0)) {
+                    String name = selector.substring(1, selector.length() - 1);
+                    if (name.isEmpty() || name.indexOf('\'') >= 0 || name.indexOf('"') >= 0
+                            || name.indexOf('\\') >= 0) {
+                        return null;
+                    }
+                    segments.add(name);
+                } else if (!selector.isEmpty() && selector.chars().allMatch(Character::isDigit)
+                        && selector.length() < 10) {
+                    segments.add(Integer.valueOf(selector));
+                } else {
+                    return null;
+                }
+                i = end + 1;
+            } else {
+                return null;
+            }
+        }
+        return new SimpleJsonPath(segments);
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-';
+    }
+
+    /**
+     * Evaluates the path on a parsed document.
+     *
+     * @param document the parsed document
+     * @return the value in the format of the JSONPATH transformation, or null if the path does not lead to a string,
+     *         boolean or number
+     */
+    public @Nullable String extract(JsonElement document) {
+        JsonElement current = document;
+        for (Object segment : segments) {
+            if (segment instanceof String name) {
+                if (!(current instanceof JsonObject object)) {
+                    return null;
+                }
+                current = object.get(name);
+            } else {
+                int index = (Integer) segment;
+                if (!(current instanceof JsonArray array) || index >= array.size()) {
+                    return null;
+                }
+                current = array.get(index);
+            }
+            if (current == null) {
+                return null;
+            }
+        }
+        if (!(current instanceof JsonPrimitive primitive)) {
+            return null;
+        }
+        if (primitive.isString() || primitive.isBoolean()) {
+            return primitive.getAsString();
+        }
+        return formatNumber(primitive.getAsString());
+    }
+
+    private static @Nullable String formatNumber(String literal) {
+        try {
+            if (literal.indexOf('.') < 0 && literal.indexOf('e') < 0 && literal.indexOf('E') < 0) {
+                return new BigInteger(literal).toString();
+            } else if (literal.length() <= MAX_DOUBLE_LENGTH) {
+                return Double.toString(Double.parseDouble(literal));
+            }
+        } catch (NumberFormatException e) {
+            // let the transformation service handle it
+        }
+        return null;
+    }
+}
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The {@link HttpFetchCache} merges the state requests of all {@link RefreshingUrlCache}s of the binding that request
+ * the same URL with the same method, content, headers and credentials:
+ * <ul>
+ * <li>a request that is still running is joined instead of sending the same request again</li>
+ * <li>the last response is handed to other caches as long as it is younger than their refresh interval</li>
+ * <li>the validators of the last response (ETag, Last-Modified) are available for a conditional request</li>
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HttpFetchCache {
+    private static final String METRIC_FETCHES = "openhab.http.fetches";
+    private static final String METRIC_UNCHANGED = "openhab.http.unchanged";
+    private static final String METRIC_TAG_OUTCOME = "outcome";
+
+    private final Logger logger = LoggerFactory.getLogger(HttpFetchCache.class);
+    private final Map<FetchKey, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile @Nullable Metrics metrics;
+
+    /**
+     * Registers a user of a request. Requests are only merged while they are registered.
+     *
+     * @param key the request
+     */
+    public void register(FetchKey key) {
+        entries.compute(key, (k, entry) -> {
+            Entry newEntry = entry != null ? entry : new Entry();
+            newEntry.users++;
+            return newEntry;
+        });
+    }
+
+    /**
+     * Unregisters a user of a request. The last response is dropped when the last user is gone.
+     *
+     * @param key the request
+     */
+    public void unregister(FetchKey key) {
+        entries.computeIfPresent(key, (k, entry) -> --entry.users > 0 ? entry : null);
+    }
+
+    /**
+     * Gets the response for a request, either from a running request, from the last response or by sending the
+     * request.
+     * <p>
+     * The last response is only used if it is younger than <code>maxAge</code> and was requested by another user, so
+     * that every user sends a request at least once per refresh interval if no other user did.
+     *
+     * @param key the request
+     * @param requester the user asking for the response
+     * @param maxAge the maximum age of a response received for another user
+     * @param fetcher sends the request, gets the last successful response (or null) for a conditional request
+     * @return a future completing with the response
+     */
+    public CompletableFuture<FetchResult> fetch(FetchKey key, Object requester, Duration maxAge,
+            Function<@Nullable FetchResult, CompletableFuture<FetchResult>> fetcher) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return fetcher.apply(null);
+        }
+
+        CompletableFuture<FetchResult> future;
+        synchronized (entry) {
+            CompletableFuture<FetchResult> pending = entry.pending;
+            if (pending != null) {
+                logger.trace("Joining running request {}", key);
+                increment(Metrics::shared);
+                return pending;
+            }
+            FetchResult lastResult = entry.lastResult;
+            if (lastResult != null && entry.lastRequester != requester
+                    && System.nanoTime() - entry.lastResultNanos < maxAge.toNanos()) {
+                logger.trace("Using response of another thing for request {}", key);
+                increment(Metrics::shared);
+                return CompletableFuture.completedFuture(lastResult);
+            }
+            future = fetcher.apply(lastResult);
+            entry.pending = future;
+        }
+
+        future.whenComplete((result, t) -> {
+            synchronized (entry) {
+                entry.pending = null;
+                // only successful responses are shared, so that every thing reports failures on its own
+                if (result != null && result.success() && result.content() != null) {
+                    entry.lastResult = result;
+                    entry.lastRequester = requester;
+                    entry.lastResultNanos = System.nanoTime();
+                }
+            }
+            if (result != null) {
+                increment(result.notModified() ? Metrics::notModified : Metrics::sent);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Counts a response that was not passed to the channels because its content did not change.
+     */
+    public void countUnchanged() {
+        increment(Metrics::unchanged);
+    }
+
+    /**
+     * Sets the registry the statistics of the cache are published on.
+     *
+     * @param meterRegistry the registry, or null to stop publishing
+     */
+    public synchronized void setMeterRegistry(@Nullable MeterRegistry meterRegistry) {
+        Metrics oldMetrics = metrics;
+        if (oldMetrics != null) {
+            oldMetrics.remove();
+        }
+        if (meterRegistry != null) {
+            Counter unchangedCounter = Counter.builder(METRIC_UNCHANGED)
+                    .description("Number of responses not passed to the channels because they did not change")
+                    .register(meterRegistry);
+            metrics = new Metrics(meterRegistry, fetchCounter(meterRegistry, "sent"),
+                    fetchCounter(meterRegistry, "not-modified"), fetchCounter(meterRegistry, "shared"),
+                    unchangedCounter);
+        } else {
+            metrics = null;
+        }
+    }
+
+    private Counter fetchCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METRIC_FETCHES).description("Number of state requests of the things")
+                .tag(METRIC_TAG_OUTCOME, outcome).register(meterRegistry);
+    }
+
+    private void increment(Function<Metrics, Counter> counter) {
+        Metrics localMetrics = metrics;
+        if (localMetrics != null) {
+            counter.apply(localMetrics).increment();
+        }
+    }
+
+    /**
+     * The meters of the cache and the registry they are registered with
+     */
+    private record Metrics(MeterRegistry registry, Counter sent, Counter notModified, Counter shared,
+            Counter unchanged) {
+        void remove() {
+            registry.remove(sent);
+            registry.remove(notModified);
+            registry.remove(shared);
+            registry.remove(unchanged);
+        }
+    }
+
+    private static class Entry {
+        private int users;
+        private @Nullable CompletableFuture<FetchResult> pending;
+        private @Nullable FetchResult lastResult;
+        private @Nullable Object lastRequester;
+        private long lastResultNanos;
+    }
+
+    /**
+     * Everything that makes two state requests return the same response.
+     */
+    public record FetchKey(String url, HttpMethod method, String content, @Nullable String contentType,
+            Map<String, String> headers, boolean ignoreSSLErrors, String username, String password,
+            @Nullable String encoding) {
+
+        @Override
+        public String toString() {
+            // the credentials must not end up in the log
+            return method + " " + url;
+        }
+    }
+
+    /**
+     * The response to a state request.
+     *
+     * @param success if the request succeeded
+     * @param content the received content (or the content confirmed by a 304 response), null if the request failed
+     * @param errorMessage the reason why the request failed
+     * @param eTag the ETag header of the response
+     * @param lastModified the Last-Modified header of the response
+     * @param notModified if the server answered a conditional request with 304 Not Modified
+     */
+    public record FetchResult(boolean success, @Nullable ChannelHandlerContent content, @Nullable String errorMessage,
+            @Nullable String eTag, @Nullable String lastModified, boolean notModified) {
+
+        public static FetchResult failed(@Nullable String errorMessage) {
+            return new FetchResult(false, null, errorMessage, null, null, false);
+        }
+    }
+}
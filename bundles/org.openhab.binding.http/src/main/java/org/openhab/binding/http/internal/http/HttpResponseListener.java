@@ -39,6 +39,7 @@ public class HttpResponseListener extends BufferingResponseListener {
     private final CompletableFuture<@Nullable ChannelHandlerContent> future;
     private final HttpStatusListener httpStatusListener;
     private final String fallbackEncoding;
+    private final @Nullable ChannelHandlerContent notModifiedContent;
 
     /**
      * the HttpResponseListener is responsible
@@ -49,10 +50,25 @@ public class HttpResponseListener extends BufferingResponseListener {
      */
     public HttpResponseListener(CompletableFuture<@Nullable ChannelHandlerContent> future,
             @Nullable String fallbackEncoding, int bufferSize, HttpStatusListener httpStatusListener) {
+        this(future, fallbackEncoding, bufferSize, httpStatusListener, null);
+    }
+
+    /**
+     * the HttpResponseListener is responsible
+     *
+     * @param future Content future to complete with the result of the request
+     * @param fallbackEncoding a fallback encoding for the content (UTF-8 if null)
+     * @param bufferSize the buffer size for the content in kB (default 2048 kB)
+     * @param notModifiedContent the content of a conditional request, used if the server answers 304 Not Modified
+     */
+    public HttpResponseListener(CompletableFuture<@Nullable ChannelHandlerContent> future,
+            @Nullable String fallbackEncoding, int bufferSize, HttpStatusListener httpStatusListener,
+            @Nullable ChannelHandlerContent notModifiedContent) {
         super(bufferSize * 1024);
         this.future = future;
         this.fallbackEncoding = fallbackEncoding != null ? fallbackEncoding : StandardCharsets.UTF_8.name();
         this.httpStatusListener = httpStatusListener;
+        this.notModifiedContent = notModifiedContent;
     }
 
     @Override
@@ -65,8 +81,8 @@ public class HttpResponseListener extends BufferingResponseListener {
         if (response == null || (result.isFailed() && response.getStatus() != HttpStatus.UNAUTHORIZED_401)) {
             logger.debug("Requesting '{}' (method='{}', content='{}') failed: {}", request.getURI(),
                     request.getMethod(), request.getContent(), result.getFailure().getMessage());
-            future.complete(null);
             httpStatusListener.onHttpError(result.getFailure().getMessage());
+            future.complete(null);
         } else {
             switch (response.getStatus()) {
                 case HttpStatus.OK_200:
@@ -79,13 +95,18 @@ public class HttpResponseListener extends BufferingResponseListener {
                 case HttpStatus.MULTI_STATUS_207:
                     byte[] content = getContent();
                     String encoding = getEncoding();
+                    httpStatusListener.onHttpSuccess();
                     if (content != null) {
                         future.complete(new ChannelHandlerContent(content,
                                 encoding == null ? fallbackEncoding : encoding, getMediaType()));
                     } else {
                         future.complete(null);
                     }
+                    break;
+                case HttpStatus.NOT_MODIFIED_304:
+                    // only conditional requests are answered with 304, the content is the same as before
                     httpStatusListener.onHttpSuccess();
+                    future.complete(notModifiedContent);
                     break;
                 case HttpStatus.UNAUTHORIZED_401:
                     logger.debug("Requesting '{}' (method='{}', content='{}') failed: Authorization error",
@@ -95,8 +116,8 @@ public class HttpResponseListener extends BufferingResponseListener {
                 default:
                     logger.debug("Requesting '{}' (method='{}', content='{}') failed: {} {}", request.getURI(),
                             request.getMethod(), request.getContent(), response.getStatus(), response.getReason());
-                    future.complete(null);
                     httpStatusListener.onHttpError(response.getReason());
+                    future.complete(null);
             }
         }
     }
@@ -12,11 +12,18 @@
  */
 package org.openhab.binding.http.internal.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -29,16 +36,28 @@ import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HttpFetchCache.FetchKey;
+import org.openhab.binding.http.internal.http.HttpFetchCache.FetchResult;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
 /**
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
  * channels
+ * <p>
+ * Requests are made through the {@link HttpFetchCache}, so things requesting the same URL share the responses.
+ * Content that did not change since the last refresh is not passed to the channels again.
  *
  * @author Jan N. Klug - Initial contribution
  */
@@ -48,6 +67,8 @@ public class RefreshingUrlCache {
 
     private final String url;
     private final RateLimitedHttpClient httpClient;
+    private final HttpFetchCache fetchCache;
+    private final FetchKey fetchKey;
     private final boolean strictErrorHandling;
     private final int timeout;
     private final int bufferSize;
@@ -60,11 +81,17 @@ public class RefreshingUrlCache {
     private final HttpStatusListener httpStatusListener;
 
     private @Nullable ScheduledFuture<?> future;
+    private Duration refreshInterval = Duration.ZERO;
     private @Nullable ChannelHandlerContent lastContent;
+    private volatile boolean forceUpdate = false;
+    private @Nullable ChannelHandlerContent jsonContent;
+    private @Nullable JsonElement json;
 
-    public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
-            String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
+    public RefreshingUrlCache(RateLimitedHttpClient httpClient, HttpFetchCache fetchCache, String url,
+            HttpThingConfig thingConfig, String httpContent, @Nullable String httpContentType,
+            HttpStatusListener httpStatusListener) {
         this.httpClient = httpClient;
+        this.fetchCache = fetchCache;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
         this.timeout = thingConfig.timeout;
@@ -75,6 +102,8 @@ public class RefreshingUrlCache {
         this.httpContentType = httpContentType;
         this.httpStatusListener = httpStatusListener;
         fallbackEncoding = thingConfig.encoding;
+        fetchKey = new FetchKey(url, httpMethod, httpContent, httpContentType, headers, thingConfig.ignoreSSLErrors,
+                thingConfig.username, thingConfig.password, fallbackEncoding);
     }
 
     public void start(ScheduledExecutorService executor, int refreshTime) {
@@ -82,6 +111,8 @@ public class RefreshingUrlCache {
             logger.warn("Starting refresh task requested but it is already started. This is bug.");
             return;
         }
+        refreshInterval = Duration.ofSeconds(refreshTime);
+        fetchCache.register(fetchKey);
         future = executor.scheduleWithFixedDelay(this::refresh, 1, refreshTime, TimeUnit.SECONDS);
         logger.trace("Started refresh task for URL '{}' with interval {}s", url, refreshTime);
     }
@@ -92,59 +123,109 @@ public class RefreshingUrlCache {
         ScheduledFuture<?> future = this.future;
         if (future != null) {
             future.cancel(true);
+            fetchCache.unregister(fetchKey);
+            this.future = null;
             logger.trace("Stopped refresh task for URL '{}'", url);
         }
     }
 
-    private void refresh() {
-        refresh(false);
+    /**
+     * Passes the next response to the channels even if its content did not change, e.g. because a command may have
+     * changed the state of a linked item.
+     */
+    public void forceUpdate() {
+        forceUpdate = true;
     }
 
-    private void refresh(boolean isRetry) {
+    private void refresh() {
         if (consumers.isEmpty()) {
             // do not refresh if we don't have listeners
             return;
         }
 
         // format URL
+        URI uri;
         try {
-            URI uri = Util.uriFromString(Util.wrappedStringFormat(this.url, new Date()));
-            logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
-
-            httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
-                request.timeout(timeout, TimeUnit.MILLISECONDS);
-                headers.forEach(request::header);
-
-                CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
-                responseContentFuture.exceptionally(t -> {
-                    if (t instanceof HttpAuthException) {
-                        if (isRetry || !httpClient.reAuth(uri)) {
-                            logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
-                            httpStatusListener.onHttpError("Authentication failed");
-                        } else {
-                            refresh(true);
-                        }
+            uri = Util.uriFromString(Util.wrappedStringFormat(this.url, new Date()));
+        } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
+            logger.warn("Creating request for '{}' failed: {}", url, e.getMessage());
+            return;
+        }
+
+        fetchCache.fetch(fetchKey, this, refreshInterval, lastResult -> fetch(uri, lastResult, false))
+                .thenAccept(this::processResult).exceptionally(e -> {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof CancellationException) {
+                        logger.debug("Request to URL {} was cancelled by thing handler.", uri);
+                    } else {
+                        logger.warn("Request to URL {} failed: {}", uri, cause.getMessage());
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                });
+    }
 
-                if (logger.isTraceEnabled()) {
-                    logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
+    private CompletableFuture<FetchResult> fetch(URI uri, @Nullable FetchResult lastResult, boolean isRetry) {
+        CompletableFuture<FetchResult> resultFuture = new CompletableFuture<>();
+        logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
+
+        httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
+            request.timeout(timeout, TimeUnit.MILLISECONDS);
+            headers.forEach(request::header);
+
+            // a conditional request allows the server to answer with 304 instead of sending the same content again
+            ChannelHandlerContent notModifiedContent = null;
+            ResponseRecorder responseRecorder = new ResponseRecorder();
+            if (lastResult != null && httpMethod == HttpMethod.GET) {
+                String eTag = lastResult.eTag();
+                String lastModified = lastResult.lastModified();
+                if (eTag != null) {
+                    request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                }
+                if (lastModified != null) {
+                    request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
                 }
+                if (eTag != null || lastModified != null) {
+                    notModifiedContent = lastResult.content();
+                    responseRecorder.eTag = eTag;
+                    responseRecorder.lastModified = lastModified;
+                }
+            }
+            request.onResponseHeaders(responseRecorder::onResponseHeaders);
 
-                request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
-            }).exceptionally(e -> {
-                if (e instanceof CancellationException) {
-                    logger.debug("Request to URL {} was cancelled by thing handler.", uri);
+            CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
+            responseContentFuture.whenComplete((content, t) -> {
+                if (t instanceof HttpAuthException) {
+                    if (isRetry || !httpClient.reAuth(uri)) {
+                        logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
+                        resultFuture.complete(FetchResult.failed("Authentication failed"));
+                    } else {
+                        fetch(uri, lastResult, true).whenComplete((result, e) -> {
+                            if (e != null) {
+                                resultFuture.completeExceptionally(e);
+                            } else {
+                                resultFuture.complete(result);
+                            }
+                        });
+                    }
+                } else if (t != null) {
+                    resultFuture.completeExceptionally(t);
                 } else {
-                    logger.warn("Request to URL {} failed: {}", uri, e.getMessage());
+                    resultFuture.complete(responseRecorder.toResult(content));
                 }
-                return null;
             });
-        } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
-            logger.warn("Creating request for '{}' failed: {}", url, e.getMessage());
-        }
+
+            if (logger.isTraceEnabled()) {
+                logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
+            }
+
+            request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
+                    responseRecorder, notModifiedContent));
+        }).exceptionally(e -> {
+            resultFuture.completeExceptionally(e);
+            return null;
+        });
+
+        return resultFuture;
     }
 
     public void addConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
@@ -155,7 +236,47 @@ public class RefreshingUrlCache {
         return Optional.ofNullable(lastContent);
     }
 
-    private void processResult(@Nullable ChannelHandlerContent content) {
+    /**
+     * Returns the content parsed as JSON. The content is parsed once and the document is shared by all channels.
+     *
+     * @param content the content received from the URL
+     * @return the parsed document, or null if the content is not JSON
+     */
+    public synchronized @Nullable JsonElement getJson(ChannelHandlerContent content) {
+        if (content != jsonContent) {
+            jsonContent = content;
+            json = parseJson(content);
+        }
+        return json;
+    }
+
+    private @Nullable JsonElement parseJson(ChannelHandlerContent content) {
+        // the content is decoded while it is parsed through the small buffer of the reader, so it is never held as a
+        // whole string
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content.getRawContent()),
+                content.getEncoding())) {
+            return JsonParser.parseReader(reader);
+        } catch (JsonParseException | IOException e) {
+            logger.trace("Content of URL {} is not JSON: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    private void processResult(FetchResult result) {
+        if (result.success()) {
+            httpStatusListener.onHttpSuccess();
+        } else {
+            httpStatusListener.onHttpError(result.errorMessage());
+        }
+
+        ChannelHandlerContent content = result.content();
+        if (content != null && !forceUpdate && isUnchanged(content)) {
+            logger.trace("Content of URL {} did not change, not updating channels", url);
+            fetchCache.countUnchanged();
+            return;
+        }
+        forceUpdate = false;
+
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
                 try {
@@ -167,4 +288,51 @@ public class RefreshingUrlCache {
         }
         lastContent = content;
     }
+
+    private boolean isUnchanged(ChannelHandlerContent content) {
+        ChannelHandlerContent lastContent = this.lastContent;
+        return lastContent != null && (content == lastContent
+                || (Arrays.equals(content.getRawContent(), lastContent.getRawContent())
+                        && Objects.equals(content.getMediaType(), lastContent.getMediaType())));
+    }
+
+    /**
+     * Records the outcome and the validators of a single request
+     */
+    private static class ResponseRecorder implements HttpStatusListener {
+        private volatile boolean success = false;
+        private volatile @Nullable String errorMessage;
+        private volatile @Nullable String eTag;
+        private volatile @Nullable String lastModified;
+        private volatile boolean notModified = false;
+
+        @Override
+        public void onHttpError(@Nullable String message) {
+            success = false;
+            errorMessage = message;
+        }
+
+        @Override
+        public void onHttpSuccess() {
+            success = true;
+        }
+
+        private void onResponseHeaders(Response response) {
+            notModified = response.getStatus() == HttpStatus.NOT_MODIFIED_304;
+            if (!notModified) {
+                // a 304 response may omit the validators, in this case the ones of the request are kept
+                eTag = response.getHeaders().get(HttpHeader.ETAG);
+                lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+            } else {
+                String eTag = response.getHeaders().get(HttpHeader.ETAG);
+                if (eTag != null) {
+                    this.eTag = eTag;
+                }
+            }
+        }
+
+        private FetchResult toResult(@Nullable ChannelHandlerContent content) {
+            return new FetchResult(success, content, errorMessage, eTag, lastModified, notModified);
+        }
+    }
 }
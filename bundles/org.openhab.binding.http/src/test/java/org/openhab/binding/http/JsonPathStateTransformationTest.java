@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.http.internal.JsonPathStateTransformation;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HttpFetchCache;
+import org.openhab.binding.http.internal.http.HttpStatusListener;
+import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
+import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+
+import com.google.gson.JsonElement;
+
+/**
+ * The {@link JsonPathStateTransformationTest} implements tests for the {@link JsonPathStateTransformation}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JsonPathStateTransformationTest {
+    private static final String INVERTER_RESPONSE = "{\"inverter\":{\"power\":1520,\"energy\":{\"today\":12.25}},"
+            + "\"strings\":[{\"voltage\":312.5},{\"voltage\":298.0}],\"status\":\"running\",\"errors\":[]}";
+
+    private final ChannelHandlerContent content = new ChannelHandlerContent(
+            INVERTER_RESPONSE.getBytes(StandardCharsets.UTF_8), "UTF-8", "application/json");
+
+    @Test
+    public void testSimpleJsonPathIsSplitOff() {
+        JsonPathStateTransformation transformation = Objects
+                .requireNonNull(JsonPathStateTransformation.parse("JSONPATH:$.inverter.power"));
+        assertNull(transformation.getRemainingTransformation());
+
+        transformation = Objects.requireNonNull(
+                JsonPathStateTransformation.parse("JSONPATH($.status) ∩ MAP:status.map ∩ REGEX:(.*)"));
+        assertEquals("MAP:status.map∩REGEX:(.*)", transformation.getRemainingTransformation());
+    }
+
+    @Test
+    public void testOtherTransformationsAreNotSplitOff() {
+        assertNull(JsonPathStateTransformation.parse(null));
+        assertNull(JsonPathStateTransformation.parse(""));
+        assertNull(JsonPathStateTransformation.parse("REGEX:(.*)∩JSONPATH:$.status"));
+        assertNull(JsonPathStateTransformation.parse("JSONPATH:$..voltage"));
+        assertNull(JsonPathStateTransformation.parse("JSONPATH:$.strings[*].voltage"));
+    }
+
+    @Test
+    public void testValuesAreSelectedFromSharedDocument() {
+        RefreshingUrlCache urlCache = new RefreshingUrlCache(mock(RateLimitedHttpClient.class), new HttpFetchCache(),
+                "http://localhost/inverter", new HttpThingConfig(), "", null, mock(HttpStatusListener.class));
+        JsonElement document = urlCache.getJson(content);
+        assertNotNull(document);
+        // the content is parsed only once for all channels
+        assertSame(document, urlCache.getJson(content));
+
+        assertEquals(Optional.of("1520"), apply("JSONPATH:$.inverter.power", document));
+        assertEquals(Optional.of("12.25"), apply("JSONPATH:$.inverter.energy.today", document));
+        assertEquals(Optional.of("298.0"), apply("JSONPATH:$.strings[1].voltage", document));
+        assertEquals(Optional.of("running"), apply("JSONPATH:$['status']", document));
+    }
+
+    @Test
+    public void testNonJsonContentIsNotParsed() {
+        RefreshingUrlCache urlCache = new RefreshingUrlCache(mock(RateLimitedHttpClient.class), new HttpFetchCache(),
+                "http://localhost/status", new HttpThingConfig(), "", null, mock(HttpStatusListener.class));
+        assertNull(urlCache.getJson(new ChannelHandlerContent(
+                "<status><power>1520</power></status>".getBytes(StandardCharsets.UTF_8), "UTF-8", "text/xml")));
+    }
+
+    private Optional<String> apply(String stateTransformation, JsonElement document) {
+        return Objects.requireNonNull(JsonPathStateTransformation.parse(stateTransformation)).apply(content,
+                document);
+    }
+}
@@ -13,7 +13,10 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.moreThanOrExactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -26,7 +29,6 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
@@ -43,11 +45,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HttpFetchCache;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 
+import com.github.tomakehurst.wiremock.client.WireMock;
+
 /**
  * The {@link RefreshingUrlCacheTest} implements tests for the {@link RefreshingUrlCache}
  *
@@ -60,6 +65,7 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
     private static final String TEST_CONTENT = "TESTCONTENT";
 
     private @NonNullByDefault({}) RateLimitedHttpClient rateLimitedHttpClient;
+    private @NonNullByDefault({}) HttpFetchCache fetchCache;
     private @NonNullByDefault({}) HttpThingConfig thingConfig;
     private @NonNullByDefault({}) String url;
     private @NonNullByDefault({}) HttpStatusListener statusListener;
@@ -74,6 +80,7 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         // create a RateLimitedHttpClient
         rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
         rateLimitedHttpClient.setDelay(0);
+        fetchCache = new HttpFetchCache();
         statusListener = mock(HttpStatusListener.class);
 
         // initialize thing config with some default values
@@ -98,19 +105,74 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
 
         RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
 
-        // wait until we got at least four results or timeout (after 10s)
-        waitForAssert(() -> assertEquals(4, contentWrappers.size()));
+        // wait until we got at least four responses or timeout (after 10s)
+        verify(statusListener, timeout(10000).atLeast(4)).onHttpSuccess();
         urlCache.stop();
 
-        // verify we did not have errors and the number of responses matches the number of success calls
+        // verify we did not have errors and the unchanged content was passed on only once
         verify(statusListener, never()).onHttpError(any());
-        verify(statusListener, times(contentWrappers.size())).onHttpSuccess();
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testUpdateAfterForcedUpdate() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        waitForAssert(() -> assertEquals(1, contentWrappers.size()));
+        urlCache.forceUpdate();
+        waitForAssert(() -> assertEquals(2, contentWrappers.size()));
+        urlCache.stop();
 
-        // assert all content equals the correct value
         assertTrue(contentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
                 .allMatch(TEST_CONTENT::equals));
     }
 
+    @Test
+    public void testRequestIsSharedBetweenCaches() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withFixedDelay(300).withBody(TEST_CONTENT)));
+
+        List<@Nullable ChannelHandlerContent> otherContentWrappers = new CopyOnWriteArrayList<>();
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+        RefreshingUrlCache otherUrlCache = new RefreshingUrlCache(rateLimitedHttpClient, fetchCache, url,
+                thingConfig, TEST_CONTENT, null, statusListener);
+        otherUrlCache.addConsumer(otherContentWrappers::add);
+        otherUrlCache.start(scheduler, thingConfig.refresh);
+
+        // both caches receive the content of the same request
+        waitForAssert(() -> {
+            assertFalse(contentWrappers.isEmpty());
+            assertFalse(otherContentWrappers.isEmpty());
+        });
+        urlCache.stop();
+        otherUrlCache.stop();
+
+        WireMock.verify(1, getRequestedFor(urlEqualTo(TEST_LOCATION)));
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(otherContentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testConditionalRequestIsSentWhenValidatorIsKnown() {
+        stubFor(get(urlEqualTo(TEST_LOCATION))
+                .willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // the first request gets the content, the following ones are answered with 304
+        verify(statusListener, timeout(10000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        verify(statusListener, never()).onHttpError(any());
+        WireMock.verify(moreThanOrExactly(2),
+                getRequestedFor(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(urlCache.get().orElse(null)).getAsString());
+    }
+
     @Test
     public void testNoUpdateOn404ErrorInNormalMode() {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withStatus(404)));
@@ -252,8 +314,8 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
      * @return the cache object
      */
     private RefreshingUrlCache getUrlCache(String content) {
-        RefreshingUrlCache urlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig, content, null,
-                statusListener);
+        RefreshingUrlCache urlCache = new RefreshingUrlCache(rateLimitedHttpClient, fetchCache, url, thingConfig,
+                content, null, statusListener);
         urlCache.addConsumer(contentWrappers::add);
         urlCache.start(scheduler, thingConfig.refresh);
         return urlCache;
@@ -15,10 +15,8 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
-import java.util.Set;
+import java.util.List;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -81,6 +79,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private ClientState state = ClientState.INIT;
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    private static final long MAX_ADAPTIVE_READING_PAUSE = 2000;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
@@ -102,8 +101,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final GroupAddressListenerIndex groupAddressListeners = new GroupAddressListenerIndex();
+    private final DatapointReadQueue readDatapoints = new DatapointReadQueue();
+    private boolean adaptiveReadingPause = false;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -327,12 +327,19 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        List<GroupAddressListener> listeners = groupAddressListeners.getListeners(destination);
+        boolean isHandled = !listeners.isEmpty();
+        if (isHandled) {
+            // notify all interested listeners in one task, telegrams on a busy line are frequent
+            knxScheduler.execute(() -> {
+                for (GroupAddressListener listener : listeners) {
+                    try {
+                        action.apply(listener, source, destination, asdu);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to process {} telegram to '{}': {}", task, destination, e.getMessage());
+                    }
+                }
+            });
         }
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
@@ -364,12 +371,15 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             datapoint.incrementRetries();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
+                long start = System.nanoTime();
                 processCommunicator.read(datapoint.getDatapoint());
+                readDatapoints.recordReadTime(System.nanoTime() - start);
+                pauseForBusLoad();
             } catch (KNXException e) {
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegArgumentException
                 if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                    readDatapoints.retry(datapoint);
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -388,6 +398,50 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
+    /**
+     * With adaptive reading pause, the pause between two read requests grows with the time the bus needs to answer
+     * them. The configured reading pause is the minimum, and is applied by the read job itself.
+     */
+    private void pauseForBusLoad() throws InterruptedException {
+        if (adaptiveReadingPause) {
+            long pause = getReadingPause() - readingPause;
+            if (pause > 0) {
+                Thread.sleep(pause);
+            }
+        }
+    }
+
+    /**
+     * Returns the current pause between two read requests.
+     *
+     * @return the pause in milliseconds
+     */
+    private long getReadingPause() {
+        if (!adaptiveReadingPause) {
+            return readingPause;
+        }
+        // keep the read requests from using more than half of the time the bus needs to answer them
+        return Math.max(readingPause, Math.min(readDatapoints.getAverageReadTime(), MAX_ADAPTIVE_READING_PAUSE));
+    }
+
+    /**
+     * Sets whether the pause between two read requests adapts to the time the bus needs to answer them.
+     *
+     * @param adaptiveReadingPause true to adapt the pause, false to always use the configured reading pause
+     */
+    public void setAdaptiveReadingPause(boolean adaptiveReadingPause) {
+        this.adaptiveReadingPause = adaptiveReadingPause;
+    }
+
+    @Override
+    public ReadQueueStatus getReadQueueStatus() {
+        int size = readDatapoints.size();
+        long averageReadTime = readDatapoints.getAverageReadTime();
+        long pause = getReadingPause();
+        return new ReadQueueStatus(size, Duration.ofMillis(averageReadTime), Duration.ofMillis(pause),
+                Duration.ofMillis(size * (averageReadTime + pause)));
+    }
+
     public void dispose() {
         state = ClientState.DISPOSE;
 
@@ -456,23 +510,18 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readDatapoints.add(datapoint, priority, readRetriesLimit);
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        groupAddressListeners.register(listener);
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        groupAddressListeners.unregister(listener);
     }
 
     @Override
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * The {@link DatapointReadQueue} holds the datapoints waiting to be read from the KNX bus.
+ * <p>
+ * Each group address is queued at most once, no matter how many things request it. If a group address is requested
+ * again with a higher {@link ReadPriority}, it is moved to the queue of that priority. Datapoints are taken in order of
+ * priority, and in order of arrival within a priority.
+ * <p>
+ * The queue also keeps a moving average of the time the bus needs to answer a read request, which is used to pace
+ * the requests and to estimate when the queue will be empty.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DatapointReadQueue {
+    // weight of a new sample in the moving average of the read time
+    private static final double READ_TIME_WEIGHT = 0.2;
+
+    // one queue per priority, indexed by the ordinal of the priority
+    private final List<ArrayDeque<ReadDatapoint>> queues = Stream.of(ReadPriority.values())
+            .map(p -> new ArrayDeque<ReadDatapoint>()).toList();
+    private final Map<GroupAddress, ReadPriority> queuedPriorities = new HashMap<>();
+    private double averageReadNanos = 0;
+
+    /**
+     * Queues a datapoint to be read.
+     *
+     * @param datapoint the datapoint
+     * @param priority the priority of the request
+     * @param retriesLimit the maximum number of read attempts
+     * @return false if the group address is already queued with the same or a higher priority
+     */
+    public synchronized boolean add(Datapoint datapoint, ReadPriority priority, int retriesLimit) {
+        GroupAddress groupAddress = datapoint.getMainAddress();
+        ReadPriority queuedPriority = queuedPriorities.get(groupAddress);
+        ReadDatapoint readDatapoint = new ReadDatapoint(datapoint, retriesLimit);
+        if (queuedPriority != null) {
+            if (queuedPriority.compareTo(priority) <= 0) {
+                return false;
+            }
+            queues.get(queuedPriority.ordinal()).remove(readDatapoint);
+        }
+        queues.get(priority.ordinal()).add(readDatapoint);
+        queuedPriorities.put(groupAddress, priority);
+        return true;
+    }
+
+    /**
+     * Queues a datapoint again after a failed read, with low priority so other datapoints are read first.
+     *
+     * @param readDatapoint the datapoint
+     */
+    public synchronized void retry(ReadDatapoint readDatapoint) {
+        GroupAddress groupAddress = readDatapoint.getDatapoint().getMainAddress();
+        if (!queuedPriorities.containsKey(groupAddress)) {
+            queues.get(ReadPriority.LOW.ordinal()).add(readDatapoint);
+            queuedPriorities.put(groupAddress, ReadPriority.LOW);
+        }
+    }
+
+    /**
+     * Takes the next datapoint to be read.
+     *
+     * @return the datapoint, or null if the queue is empty
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        for (ArrayDeque<ReadDatapoint> queue : queues) {
+            ReadDatapoint readDatapoint = queue.poll();
+            if (readDatapoint != null) {
+                queuedPriorities.remove(readDatapoint.getDatapoint().getMainAddress());
+                return readDatapoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all queued datapoints.
+     */
+    public synchronized void clear() {
+        queues.forEach(ArrayDeque::clear);
+        queuedPriorities.clear();
+    }
+
+    /**
+     * Returns the number of queued datapoints.
+     */
+    public synchronized int size() {
+        return queuedPriorities.size();
+    }
+
+    /**
+     * Records the time a successful read request took, from sending the request until the response arrived.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public synchronized void recordReadTime(long nanos) {
+        averageReadNanos = averageReadNanos == 0 ? nanos
+                : READ_TIME_WEIGHT * nanos + (1 - READ_TIME_WEIGHT) * averageReadNanos;
+    }
+
+    /**
+     * Returns the moving average of the time a read request takes.
+     *
+     * @return the average in milliseconds, or 0 if no read request has been answered yet
+     */
+    public synchronized long getAverageReadTime() {
+        return Math.round(averageReadNanos / 1_000_000);
+    }
+}
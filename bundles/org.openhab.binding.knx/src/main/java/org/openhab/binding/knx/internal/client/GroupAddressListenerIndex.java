@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * The {@link GroupAddressListenerIndex} maps each {@link GroupAddress} to the {@link GroupAddressListener}s interested
+ * in it, so that a received telegram is dispatched without asking every registered listener.
+ * <p>
+ * The group addresses of a listener are taken when it registers. A listener whose group addresses changed has to
+ * register again.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressListenerIndex {
+
+    private final Map<GroupAddress, List<GroupAddressListener>> listenersByGroupAddress = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> groupAddressesByListener = new HashMap<>();
+
+    /**
+     * Adds a listener for its current group addresses, or updates the group addresses of a registered listener.
+     *
+     * @param listener the listener
+     */
+    public synchronized void register(GroupAddressListener listener) {
+        unregister(listener);
+        Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+        groupAddressesByListener.put(listener, groupAddresses);
+        for (GroupAddress groupAddress : groupAddresses) {
+            listenersByGroupAddress.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArrayList<>()).add(listener);
+        }
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     */
+    public synchronized void unregister(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = groupAddressesByListener.remove(listener);
+        if (groupAddresses == null) {
+            return;
+        }
+        for (GroupAddress groupAddress : groupAddresses) {
+            listenersByGroupAddress.computeIfPresent(groupAddress, (ga, listeners) -> {
+                listeners.remove(listener);
+                return listeners.isEmpty() ? null : listeners;
+            });
+        }
+    }
+
+    /**
+     * Returns the listeners interested in a group address.
+     *
+     * @param groupAddress the destination of a telegram
+     * @return the listeners, empty if the group address is not configured in openHAB
+     */
+    public List<GroupAddressListener> getListeners(GroupAddress groupAddress) {
+        return listenersByGroupAddress.getOrDefault(groupAddress, List.of());
+    }
+}
@@ -75,11 +75,18 @@ public interface KNXClient {
     void unregisterGroupAddressListener(GroupAddressListener listener);
 
     /**
-     * Schedule the given data point for asynchronous reading.
+     * Schedule the given data point for asynchronous reading. A group address is queued only once, even if several
+     * things request it.
      *
      * @param datapoint the datapoint
+     * @param priority the priority of the read request
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
+
+    /**
+     * Returns the state of the queue of data points waiting to be read.
+     */
+    ReadQueueStatus getReadQueueStatus();
 
     /**
      * Write a command to the KNX bus.
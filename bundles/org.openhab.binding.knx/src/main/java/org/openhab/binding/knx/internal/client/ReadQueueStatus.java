@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * State of the queue of datapoints waiting to be read from the KNX bus.
+ *
+ * @param size the number of queued datapoints
+ * @param averageReadTime the average time the bus needs to answer a read request
+ * @param readingPause the current pause between two read requests
+ * @param estimatedCompletion the estimated time until all queued datapoints are read
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public record ReadQueueStatus(int size, Duration averageReadTime, Duration readingPause,
+        Duration estimatedCompletion) {
+}
@@ -26,6 +26,7 @@ public class BridgeConfiguration {
     private int readingPause = 0;
     private int readRetriesLimit = 0;
     private int responseTimeout = 0;
+    private boolean adaptiveReadingPause = false;
 
     public int getAutoReconnectPeriod() {
         return autoReconnectPeriod;
@@ -43,6 +44,10 @@ public class BridgeConfiguration {
         return responseTimeout;
     }
 
+    public boolean getAdaptiveReadingPause() {
+        return adaptiveReadingPause;
+    }
+
     public void setAutoReconnectPeriod(int period) {
         autoReconnectPeriod = period;
     }
@@ -190,6 +190,7 @@ public class IPBridgeThingHandler extends KNXBridgeBaseThingHandler {
 
         IPClient tmpClient = client;
         if (tmpClient != null) {
+            tmpClient.setAdaptiveReadingPause(config.getAdaptiveReadingPause());
             tmpClient.initialize();
         }
 
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class DatapointReadQueueTest {
+
+    private static Datapoint datapoint(int middle, int sub, String thing) {
+        return new CommandDP(new GroupAddress(1, middle, sub), thing, 0, "1.001");
+    }
+
+    private static GroupAddress next(DatapointReadQueue queue) {
+        return Objects.requireNonNull(queue.poll()).getDatapoint().getMainAddress();
+    }
+
+    @Test
+    public void testGroupAddressIsQueuedOnce() {
+        DatapointReadQueue queue = new DatapointReadQueue();
+        assertTrue(queue.add(datapoint(0, 1, "thing1"), ReadPriority.NORMAL, 3));
+        assertFalse(queue.add(datapoint(0, 1, "thing2"), ReadPriority.NORMAL, 3));
+        assertFalse(queue.add(datapoint(0, 1, "thing2"), ReadPriority.LOW, 3));
+        assertEquals(1, queue.size());
+
+        assertEquals(new GroupAddress(1, 0, 1), next(queue));
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testHigherPriorityIsReadFirst() {
+        DatapointReadQueue queue = new DatapointReadQueue();
+        queue.add(datapoint(0, 1, "thing"), ReadPriority.LOW, 3);
+        queue.add(datapoint(0, 2, "thing"), ReadPriority.NORMAL, 3);
+        queue.add(datapoint(0, 3, "thing"), ReadPriority.NORMAL, 3);
+        // a refresh moves an already queued group address ahead
+        assertTrue(queue.add(datapoint(0, 3, "thing"), ReadPriority.HIGH, 3));
+        assertEquals(3, queue.size());
+
+        assertEquals(new GroupAddress(1, 0, 3), next(queue));
+        assertEquals(new GroupAddress(1, 0, 2), next(queue));
+        assertEquals(new GroupAddress(1, 0, 1), next(queue));
+    }
+
+    @Test
+    public void testRetryIsReadLast() {
+        DatapointReadQueue queue = new DatapointReadQueue();
+        queue.add(datapoint(0, 1, "thing"), ReadPriority.HIGH, 3);
+        queue.add(datapoint(0, 2, "thing"), ReadPriority.NORMAL, 3);
+
+        ReadDatapoint failed = Objects.requireNonNull(queue.poll());
+        failed.incrementRetries();
+        queue.retry(failed);
+
+        assertEquals(new GroupAddress(1, 0, 2), next(queue));
+        ReadDatapoint retried = Objects.requireNonNull(queue.poll());
+        assertEquals(new GroupAddress(1, 0, 1), retried.getDatapoint().getMainAddress());
+        assertEquals(1, retried.getRetries());
+    }
+
+    @Test
+    public void testAverageReadTime() {
+        DatapointReadQueue queue = new DatapointReadQueue();
+        assertEquals(0, queue.getAverageReadTime());
+        queue.recordReadTime(100_000_000);
+        assertEquals(100, queue.getAverageReadTime());
+        queue.recordReadTime(200_000_000);
+        assertEquals(120, queue.getAverageReadTime());
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class GroupAddressListenerIndexTest {
+
+    private static final GroupAddress GA_1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA_3 = new GroupAddress(5, 6, 7);
+
+    private GroupAddressListener listener(GroupAddress... groupAddresses) {
+        GroupAddressListener listener = mock(GroupAddressListener.class);
+        when(listener.getGroupAddresses()).thenReturn(Set.of(groupAddresses));
+        return listener;
+    }
+
+    @Test
+    public void testListenersAreFoundByGroupAddress() {
+        GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+        GroupAddressListener first = listener(GA_1, GA_2);
+        GroupAddressListener second = listener(GA_2);
+        index.register(first);
+        index.register(second);
+
+        assertEquals(List.of(first), index.getListeners(GA_1));
+        assertEquals(List.of(first, second), index.getListeners(GA_2));
+        assertTrue(index.getListeners(GA_3).isEmpty());
+
+        index.unregister(first);
+        assertTrue(index.getListeners(GA_1).isEmpty());
+        assertEquals(List.of(second), index.getListeners(GA_2));
+
+        // unregistering twice does no harm
+        index.unregister(first);
+        assertEquals(List.of(second), index.getListeners(GA_2));
+    }
+
+    @Test
+    public void testRegisteringAgainUpdatesGroupAddresses() {
+        GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+        GroupAddressListener listener = listener(GA_1);
+        index.register(listener);
+
+        when(listener.getGroupAddresses()).thenReturn(Set.of(GA_3));
+        index.register(listener);
+
+        assertTrue(index.getListeners(GA_1).isEmpty());
+        assertEquals(List.of(listener), index.getListeners(GA_3));
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.binding.modbus.handler;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -22,10 +23,14 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
@@ -46,6 +51,10 @@ import org.openhab.core.types.Command;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * The {@link ModbusPollerThingHandler} is responsible for polling Modbus slaves. Errors and data is delegated to
  * child thing handlers inheriting from {@link ModbusReadCallback} -- in practice: {@link ModbusDataThingHandler}.
@@ -70,6 +79,11 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
         private volatile @Nullable AtomicStampedValue<PollResult> lastResult;
 
+        // data of the previous poll, to detect which children have unchanged data
+        private byte @Nullable [] lastRegisterBytes;
+        private @Nullable BitArray lastBits;
+        private int pollsSinceFullUpdate;
+
         public synchronized void handleResult(PollResult result) {
             // Ignore all incoming data and errors if configuration is not correct
             if (hasConfigurationError() || disposed) {
@@ -85,7 +99,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 }
             }
             logger.debug("Thing {} received response {}", thing.getUID(), result);
-            notifyChildren(result);
+            notifyChildren(result, true);
             if (result.failure != null) {
                 Exception error = result.failure.getCause();
                 assert error != null;
@@ -129,23 +143,79 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             return Optional.ofNullable(this.lastResult).map(result -> result.copyIfStampAfter(oldestStamp))
                     .map(result -> {
                         logger.debug("Thing {} reusing cached data: {}", thing.getUID(), result.getValue());
-                        notifyChildren(result.getValue());
+                        notifyChildren(result.getValue(), false);
                         return true;
                     }).orElse(false);
         }
 
-        private void notifyChildren(PollResult pollResult) {
+        /**
+         * Pass the poll result to the children
+         *
+         * @param pollResult the result to pass
+         * @param onlyChanged whether children whose data has not changed since the previous poll may be skipped
+         */
+        private synchronized void notifyChildren(PollResult pollResult, boolean onlyChanged) {
             @Nullable
             AsyncModbusReadResult result = pollResult.result;
             @Nullable
             AsyncModbusFailure<ModbusReadRequestBlueprint> failure = pollResult.failure;
-            childCallbacks.forEach(handler -> {
-                if (result != null) {
+            if (result == null) {
+                resetSnapshot();
+                if (failure != null) {
+                    childCallbacks.forEach(handler -> handler.handleReadError(failure));
+                }
+                return;
+            }
+
+            byte @Nullable [] registerBytes = result.getRegisters().isPresent() ? result.getRegisters().get().getBytes()
+                    : null;
+            @Nullable
+            BitArray bits = result.getBits().isPresent() ? result.getBits().get() : null;
+            byte @Nullable [] previousRegisterBytes = lastRegisterBytes;
+            @Nullable
+            BitArray previousBits = lastBits;
+            lastRegisterBytes = registerBytes;
+            lastBits = bits;
+
+            int updateUnchangedEvery = config.getUpdateUnchangedEvery();
+            boolean updateAll = !onlyChanged || updateUnchangedEvery == 1
+                    || (previousRegisterBytes == null && previousBits == null);
+            if (!updateAll && updateUnchangedEvery > 1 && ++pollsSinceFullUpdate >= updateUnchangedEvery) {
+                updateAll = true;
+            }
+            if (updateAll) {
+                pollsSinceFullUpdate = 0;
+                childCallbacks.forEach(handler -> handler.onReadResult(result));
+                return;
+            }
+
+            int skipped = 0;
+            for (ModbusDataThingHandler handler : childCallbacks) {
+                boolean changed;
+                if (registerBytes != null && previousRegisterBytes != null) {
+                    changed = handler.isReadDataChanged(previousRegisterBytes, registerBytes);
+                } else if (bits != null && previousBits != null) {
+                    changed = handler.isReadDataChanged(previousBits, bits);
+                } else {
+                    changed = true;
+                }
+                if (changed) {
                     handler.onReadResult(result);
-                } else if (failure != null) {
-                    handler.handleReadError(failure);
+                } else {
+                    skipped++;
                 }
-            });
+            }
+            logger.trace("Thing {} skipped {} of {} children with unchanged data", thing.getUID(), skipped,
+                    childCallbacks.size());
+        }
+
+        /**
+         * Forget the data of the previous poll, so that all children are updated with the next poll
+         */
+        public synchronized void resetSnapshot() {
+            lastRegisterBytes = null;
+            lastBits = null;
+            pollsSinceFullUpdate = 0;
         }
 
         /**
@@ -153,6 +223,60 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
          */
         public void resetCache() {
             lastResult = null;
+            resetSnapshot();
+        }
+    }
+
+    /**
+     * Records the round trip of a poll, from submitting the request until its result or failure is received, and
+     * passes the result on to the {@link ReadCallbackDelegator}.
+     *
+     * Regular polls are submitted by the transport with a fixed delay: the first one when the poll is registered, the
+     * next ones a poll period after the previous one has completed.
+     */
+    private class TimedPoll implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final long pollPeriodNanos;
+        private volatile long submittedNanos;
+
+        /**
+         * @param pollPeriodMillis the poll period of a regular poll, or 0 for a one time poll
+         */
+        private TimedPoll(long pollPeriodMillis) {
+            this.pollPeriodNanos = TimeUnit.MILLISECONDS.toNanos(pollPeriodMillis);
+            this.submittedNanos = System.nanoTime();
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            recordRoundTrip(true);
+            callbackDelegator.handle(result);
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            recordRoundTrip(false);
+            callbackDelegator.handle(failure);
+        }
+
+        private void recordRoundTrip(boolean success) {
+            long now = System.nanoTime();
+            recordPollResult(success, now - submittedNanos);
+            submittedNanos = now + pollPeriodNanos;
+        }
+    }
+
+    /**
+     * The meters of this poller
+     */
+    private static class PollMetrics {
+        private final Timer roundTrip;
+        private final Counter successes;
+        private final Counter failures;
+
+        private PollMetrics(Timer roundTrip, Counter successes, Counter failures) {
+            this.roundTrip = roundTrip;
+            this.successes = successes;
+            this.failures = failures;
         }
     }
 
@@ -183,12 +307,19 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
     private final Logger logger = LoggerFactory.getLogger(ModbusPollerThingHandler.class);
 
+    private static final String METRIC_POLL_ROUND_TRIP = "openhab.modbus.poll.roundtrip";
+    private static final String METRIC_POLL_RESULTS = "openhab.modbus.poll.results";
+    private static final String METRIC_TAG_THING = "thing";
+    private static final String METRIC_TAG_OUTCOME = "outcome";
+
     private static final List<String> SORTED_READ_FUNCTION_CODES = ModbusBindingConstantsInternal.READ_FUNCTION_CODES
             .keySet().stream().sorted().collect(Collectors.toUnmodifiableList());
 
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable ModbusReadPlanner readPlanner;
+    private volatile ModbusReadPlanner.@Nullable Registration pollRegistration;
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
@@ -199,8 +330,20 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
     private @Nullable ModbusReadFunctionCode functionCode;
 
+    private final @Nullable MeterRegistry meterRegistry;
+    private volatile @Nullable PollMetrics pollMetrics;
+
     public ModbusPollerThingHandler(Bridge bridge) {
+        this(bridge, null);
+    }
+
+    /**
+     * @param bridge the poller thing
+     * @param meterRegistry the registry to publish poll metrics to, null to not publish metrics
+     */
+    public ModbusPollerThingHandler(Bridge bridge, @Nullable MeterRegistry meterRegistry) {
         super(bridge);
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -233,6 +376,18 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Get the coalescer collecting the writes to the endpoint of this poller
+     *
+     * @return the coalescer, or null if writes should be submitted directly to the communication interface
+     */
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        if (getEndpointThingHandler() instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler) {
+            return endpointHandler.getWriteCoalescer();
+        }
+        return null;
+    }
+
     @Override
     public synchronized void initialize() {
         if (this.getThing().getStatus().equals(ThingStatus.ONLINE)) {
@@ -276,6 +431,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                     break;
             }
             cacheMillis = this.config.getCacheMillis();
+            registerPollMetrics();
             registerPollTask();
         } catch (EndpointNotInitializedException e) {
             logger.debug("Exception during initialization", e);
@@ -292,11 +448,48 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         // Mark handler as disposed as soon as possible to halt processing of callbacks
         disposed = true;
         unregisterPollTask();
+        unregisterPollMetrics();
         this.callbackDelegator.resetCache();
         comms = null;
         lastPolledDataCache.set(null);
     }
 
+    private void registerPollMetrics() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null || pollMetrics != null) {
+            return;
+        }
+        String thingUID = getThing().getUID().getAsString();
+        pollMetrics = new PollMetrics(
+                Timer.builder(METRIC_POLL_ROUND_TRIP)
+                        .description("Round trip of a poll, from submitting the request until its result is received")
+                        .tag(METRIC_TAG_THING, thingUID).register(meterRegistry),
+                Counter.builder(METRIC_POLL_RESULTS).description("Number of poll results")
+                        .tag(METRIC_TAG_THING, thingUID).tag(METRIC_TAG_OUTCOME, "success").register(meterRegistry),
+                Counter.builder(METRIC_POLL_RESULTS).description("Number of poll results")
+                        .tag(METRIC_TAG_THING, thingUID).tag(METRIC_TAG_OUTCOME, "failure").register(meterRegistry));
+    }
+
+    private void unregisterPollMetrics() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        PollMetrics localPollMetrics = pollMetrics;
+        pollMetrics = null;
+        if (meterRegistry != null && localPollMetrics != null) {
+            meterRegistry.remove(localPollMetrics.roundTrip);
+            meterRegistry.remove(localPollMetrics.successes);
+            meterRegistry.remove(localPollMetrics.failures);
+        }
+    }
+
+    private void recordPollResult(boolean success, long roundTripNanos) {
+        PollMetrics localPollMetrics = pollMetrics;
+        if (localPollMetrics == null) {
+            return;
+        }
+        localPollMetrics.roundTrip.record(roundTripNanos, TimeUnit.NANOSECONDS);
+        (success ? localPollMetrics.successes : localPollMetrics.failures).increment();
+    }
+
     /**
      * Unregister poll task.
      *
@@ -312,7 +505,15 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Unregistering polling from ModbusManager");
             comms.unregisterRegularPoll(localPollTask);
         }
+        ModbusReadPlanner localReadPlanner = this.readPlanner;
+        ModbusReadPlanner.Registration localPollRegistration = this.pollRegistration;
+        if (localReadPlanner != null && localPollRegistration != null) {
+            logger.debug("Unregistering polling from the read planner of the endpoint");
+            localReadPlanner.unregister(localPollRegistration);
+        }
         this.pollTask = null;
+        this.readPlanner = null;
+        this.pollRegistration = null;
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -327,7 +528,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || pollRegistration != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -360,10 +561,17 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         if (config.getRefresh() <= 0L) {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
+        } else if (slaveEndpointThingHandler instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler
+                && endpointHandler.getReadPlanner() instanceof ModbusReadPlanner localReadPlanner) {
+            logger.debug("Registering polling with the read planner of the endpoint");
+            readPlanner = localReadPlanner;
+            TimedPoll timedPoll = new TimedPoll(config.getRefresh());
+            pollRegistration = localReadPlanner.register(localRequest, config.getRefresh(), timedPoll, timedPoll);
+            updateStatus(ThingStatus.ONLINE);
         } else {
             logger.debug("Registering polling with ModbusManager");
-            pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
-                    callbackDelegator);
+            TimedPoll timedPoll = new TimedPoll(config.getRefresh());
+            pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, timedPoll, timedPoll);
             assert pollTask != null;
             updateStatus(ThingStatus.ONLINE);
         }
@@ -386,6 +594,8 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
         if (childHandler instanceof ModbusDataThingHandler modbusDataThingHandler) {
             this.childCallbacks.add(modbusDataThingHandler);
+            // make sure the new child receives the next poll result even if the data does not change
+            this.callbackDelegator.resetSnapshot();
         }
     }
 
@@ -455,7 +665,8 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                     getThing().getUID());
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
-                localComms.submitOneTimePoll(localRequest, callbackDelegator, callbackDelegator);
+                TimedPoll timedPoll = new TimedPoll(0);
+                localComms.submitOneTimePoll(localRequest, timedPoll, timedPoll);
             }
         }
     }
@@ -0,0 +1,288 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the regular polls of all pollers of one endpoint into as few read requests as possible.
+ * <p>
+ * Polls with the same slave id, function code, poll period and maximum tries are compatible. Compatible polls are
+ * sorted by their start address and merged as long as the gap between them does not exceed the configured maximum and
+ * the merged request stays within the Modbus limits of {@value ModbusConstants#MAX_REGISTERS_READ_COUNT} registers or
+ * {@value ModbusConstants#MAX_BITS_READ_COUNT} bits. The response of a merged read is sliced and handed out to every
+ * poll it covers, with the original request of the poll, so that the callbacks see exactly the data they asked for.
+ * <p>
+ * The plan of a group of compatible polls is recomputed whenever a poll of the group is registered or unregistered.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlanner {
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusReadPlanner.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final int maxGap;
+
+    // guarded by this
+    private final Map<GroupKey, Group> groups = new HashMap<>();
+
+    /**
+     * Handle of a poll registered with the planner, to be used for unregistering it.
+     */
+    public static final class Registration {
+        private final ModbusReadRequestBlueprint request;
+        private final long pollPeriodMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        private Registration(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+                ModbusReadCallback resultCallback,
+                ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.pollPeriodMillis = pollPeriodMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        private int getStart() {
+            return request.getReference();
+        }
+
+        private int getEnd() {
+            return request.getReference() + request.getDataLength();
+        }
+    }
+
+    private record GroupKey(int slaveId, ModbusReadFunctionCode functionCode, long pollPeriodMillis, int maxTries) {
+    }
+
+    private static class Group {
+        private final List<Registration> registrations = new ArrayList<>();
+        private final List<PollTask> pollTasks = new ArrayList<>();
+    }
+
+    /**
+     * A read request covering one or more registered polls.
+     *
+     * @param request the merged request
+     * @param registrations the polls covered by the request
+     */
+    record PlannedRead(ModbusReadRequestBlueprint request, List<Registration> registrations) {
+    }
+
+    /**
+     * Constructor of ModbusReadPlanner
+     *
+     * @param comms the communication interface of the endpoint
+     * @param maxGap the maximum number of registers or bits, that are not requested by any poller, that may be read
+     *            to merge two polls
+     */
+    public ModbusReadPlanner(ModbusCommunicationInterface comms, int maxGap) {
+        this.comms = comms;
+        this.maxGap = Math.max(maxGap, 0);
+    }
+
+    /**
+     * Registers a regular poll.
+     *
+     * @param request the request to poll
+     * @param pollPeriodMillis the poll period in milliseconds
+     * @param resultCallback receives the data of the request
+     * @param failureCallback receives the failures of the request
+     * @return the handle to unregister the poll with
+     */
+    public synchronized Registration register(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        Registration registration = new Registration(request, pollPeriodMillis, resultCallback, failureCallback);
+        GroupKey key = keyOf(registration);
+        Group group = groups.computeIfAbsent(key, k -> new Group());
+        group.registrations.add(registration);
+        replan(key, group);
+        return registration;
+    }
+
+    /**
+     * Unregisters a regular poll.
+     *
+     * @param registration the handle returned on registration
+     * @return true if the poll was registered
+     */
+    public synchronized boolean unregister(Registration registration) {
+        GroupKey key = keyOf(registration);
+        Group group = groups.get(key);
+        if (group == null || !group.registrations.remove(registration)) {
+            return false;
+        }
+        replan(key, group);
+        if (group.registrations.isEmpty()) {
+            groups.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Unregisters all polls.
+     */
+    public synchronized void dispose() {
+        for (Group group : groups.values()) {
+            unregisterPollTasks(group);
+        }
+        groups.clear();
+    }
+
+    private GroupKey keyOf(Registration registration) {
+        ModbusReadRequestBlueprint request = registration.request;
+        return new GroupKey(request.getUnitID(), request.getFunctionCode(), registration.pollPeriodMillis,
+                request.getMaxTries());
+    }
+
+    private void replan(GroupKey key, Group group) {
+        unregisterPollTasks(group);
+        List<PlannedRead> plan = plan(group.registrations, maxGap);
+        for (PlannedRead read : plan) {
+            group.pollTasks.add(comms.registerRegularPoll(read.request(), key.pollPeriodMillis(), 0,
+                    result -> dispatchResult(read, result), failure -> dispatchFailure(read, failure)));
+        }
+        logger.debug("Polls of {} with function code {} every {} ms: {} request(s) planned for {} poll(s)",
+                comms.getEndpoint(), key.functionCode(), key.pollPeriodMillis(), plan.size(),
+                group.registrations.size());
+    }
+
+    private void unregisterPollTasks(Group group) {
+        for (PollTask task : group.pollTasks) {
+            comms.unregisterRegularPoll(task);
+        }
+        group.pollTasks.clear();
+    }
+
+    /**
+     * Merges compatible polls into as few requests as possible.
+     *
+     * @param registrations compatible polls, i.e. with same slave id, function code, poll period and maximum tries
+     * @param maxGap the maximum number of registers or bits, not requested by any poll, that may be read in between
+     * @return the planned requests
+     */
+    static List<PlannedRead> plan(List<Registration> registrations, int maxGap) {
+        List<PlannedRead> plan = new ArrayList<>();
+        if (registrations.isEmpty()) {
+            return plan;
+        }
+        List<Registration> sorted = new ArrayList<>(registrations);
+        sorted.sort(Comparator.comparingInt(Registration::getStart).thenComparingInt(Registration::getEnd));
+
+        ModbusReadRequestBlueprint first = sorted.get(0).request;
+        int limit = switch (first.getFunctionCode()) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+
+        List<Registration> members = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (Registration registration : sorted) {
+            if (!members.isEmpty() && registration.getStart() <= end + maxGap
+                    && Math.max(end, registration.getEnd()) - start <= limit) {
+                end = Math.max(end, registration.getEnd());
+                members.add(registration);
+                continue;
+            }
+            if (!members.isEmpty()) {
+                plan.add(toPlannedRead(members, start, end));
+            }
+            members = new ArrayList<>();
+            members.add(registration);
+            start = registration.getStart();
+            end = registration.getEnd();
+        }
+        plan.add(toPlannedRead(members, start, end));
+        return plan;
+    }
+
+    private static PlannedRead toPlannedRead(List<Registration> members, int start, int end) {
+        if (members.size() == 1) {
+            // nothing merged, poll the original request
+            return new PlannedRead(members.get(0).request, members);
+        }
+        ModbusReadRequestBlueprint first = members.get(0).request;
+        ModbusReadRequestBlueprint merged = new ModbusReadRequestBlueprint(first.getUnitID(), first.getFunctionCode(),
+                start, end - start, first.getMaxTries());
+        return new PlannedRead(merged, members);
+    }
+
+    static void dispatchResult(PlannedRead read, AsyncModbusReadResult result) {
+        int readStart = read.request().getReference();
+        Optional<ModbusRegisterArray> registers = result.getRegisters();
+        Optional<BitArray> bits = result.getBits();
+        for (Registration registration : read.registrations()) {
+            if (read.registrations().size() == 1 && registration.request == read.request()) {
+                registration.resultCallback.handle(result);
+                continue;
+            }
+            int offset = registration.getStart() - readStart;
+            int length = registration.request.getDataLength();
+            AsyncModbusReadResult slice;
+            if (registers.isPresent()) {
+                byte[] bytes = registers.get().getBytes();
+                slice = new AsyncModbusReadResult(registration.request,
+                        new ModbusRegisterArray(Arrays.copyOfRange(bytes, offset * 2, (offset + length) * 2)));
+            } else if (bits.isPresent()) {
+                BitArray allBits = bits.get();
+                boolean[] sliced = new boolean[length];
+                for (int i = 0; i < length; i++) {
+                    sliced[i] = allBits.getBit(offset + i);
+                }
+                slice = new AsyncModbusReadResult(registration.request, new BitArray(sliced));
+            } else {
+                continue;
+            }
+            registration.resultCallback.handle(slice);
+        }
+    }
+
+    static void dispatchFailure(PlannedRead read, AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        for (Registration registration : read.registrations()) {
+            if (registration.request == failure.getRequest()) {
+                registration.failureCallback.handle(failure);
+            } else {
+                registration.failureCallback.handle(new AsyncModbusFailure<>(registration.request, failure.getCause()));
+            }
+        }
+    }
+}
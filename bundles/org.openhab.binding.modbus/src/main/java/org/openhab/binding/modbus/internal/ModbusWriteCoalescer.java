@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the writes to one endpoint within a short window and merges writes to contiguous registers or coils into
+ * single "write multiple" requests (FC16 or FC15).
+ * <p>
+ * Only writes that directly follow each other are merged, and only if the second one starts where the first one ends
+ * and both are of the same type, for the same unit id and with the same maximum tries. This keeps the order in which
+ * the writes reach the slave. The result of a merged write is reported to the callbacks of every write it contains,
+ * with the original request.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteCoalescer {
+
+    /** Maximum number of registers in a single write multiple registers (FC16) request */
+    static final int MAX_REGISTERS_WRITE_COUNT = 123;
+    /** Maximum number of coils in a single write multiple coils (FC15) request */
+    static final int MAX_COILS_WRITE_COUNT = 1968;
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusWriteCoalescer.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+
+    // guarded by this
+    private List<PendingWrite> pendingWrites = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    /**
+     * A write waiting to be sent
+     */
+    record PendingWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+
+        private int length() {
+            if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+                return registerRequest.getRegisters().size();
+            } else if (request instanceof ModbusWriteCoilRequestBlueprint coilRequest) {
+                return coilRequest.getCoils().size();
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Constructor of ModbusWriteCoalescer
+     *
+     * @param comms the communication interface of the endpoint
+     * @param scheduler the scheduler to send the collected writes on
+     * @param windowMillis the time to collect writes, in milliseconds
+     */
+    public ModbusWriteCoalescer(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler,
+            long windowMillis) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Queues a write, which is sent together with the other writes queued within the window.
+     *
+     * @param request the write request
+     * @param resultCallback receives the result of the write
+     * @param failureCallback receives the failure of the write
+     */
+    public synchronized void submit(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        pendingWrites.add(new PendingWrite(request, resultCallback, failureCallback));
+        if (flushJob == null) {
+            flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sends all queued writes immediately.
+     */
+    public void flush() {
+        List<PendingWrite> writes;
+        synchronized (this) {
+            flushJob = null;
+            if (pendingWrites.isEmpty()) {
+                return;
+            }
+            writes = pendingWrites;
+            pendingWrites = new ArrayList<>();
+        }
+        List<List<PendingWrite>> batches = merge(writes);
+        logger.debug("Sending {} write(s) to {} as {} request(s)", writes.size(), comms.getEndpoint(), batches.size());
+        for (List<PendingWrite> batch : batches) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Cancels the scheduled sending and sends the queued writes immediately.
+     */
+    public void dispose() {
+        ScheduledFuture<?> localFlushJob;
+        synchronized (this) {
+            localFlushJob = flushJob;
+            flushJob = null;
+        }
+        if (localFlushJob != null) {
+            localFlushJob.cancel(false);
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.debug("Failed to send queued writes to {}: {}", comms.getEndpoint(), e.getMessage());
+        }
+    }
+
+    /**
+     * Groups writes that directly follow each other and can be sent as a single request.
+     */
+    static List<List<PendingWrite>> merge(List<PendingWrite> writes) {
+        List<List<PendingWrite>> batches = new ArrayList<>();
+        List<PendingWrite> batch = new ArrayList<>();
+        int batchLength = 0;
+        for (PendingWrite write : writes) {
+            if (!batch.isEmpty() && canAppend(batch.get(batch.size() - 1), write, batchLength)) {
+                batch.add(write);
+                batchLength += write.length();
+                continue;
+            }
+            if (!batch.isEmpty()) {
+                batches.add(batch);
+            }
+            batch = new ArrayList<>();
+            batch.add(write);
+            batchLength = write.length();
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static boolean canAppend(PendingWrite last, PendingWrite next, int batchLength) {
+        ModbusWriteRequestBlueprint lastRequest = last.request();
+        ModbusWriteRequestBlueprint nextRequest = next.request();
+        if (lastRequest.getUnitID() != nextRequest.getUnitID()
+                || lastRequest.getMaxTries() != nextRequest.getMaxTries()
+                || nextRequest.getReference() != lastRequest.getReference() + last.length()) {
+            return false;
+        }
+        // the merged request is sent with function code 15 or 16, which devices only supporting the single write
+        // function codes 5 and 6 reject
+        if (!isWriteMultiple(lastRequest) || !isWriteMultiple(nextRequest)) {
+            return false;
+        }
+        if (lastRequest instanceof ModbusWriteRegisterRequestBlueprint
+                && nextRequest instanceof ModbusWriteRegisterRequestBlueprint) {
+            return batchLength + next.length() <= MAX_REGISTERS_WRITE_COUNT;
+        } else if (lastRequest instanceof ModbusWriteCoilRequestBlueprint
+                && nextRequest instanceof ModbusWriteCoilRequestBlueprint) {
+            return batchLength + next.length() <= MAX_COILS_WRITE_COUNT;
+        }
+        return false;
+    }
+
+    private static boolean isWriteMultiple(ModbusWriteRequestBlueprint request) {
+        ModbusWriteFunctionCode functionCode = request.getFunctionCode();
+        return functionCode == ModbusWriteFunctionCode.WRITE_MULTIPLE_REGISTERS
+                || functionCode == ModbusWriteFunctionCode.WRITE_MULTIPLE_COILS;
+    }
+
+    /**
+     * Creates the request for a batch of writes
+     */
+    static ModbusWriteRequestBlueprint toRequest(List<PendingWrite> batch) {
+        ModbusWriteRequestBlueprint first = batch.get(0).request();
+        if (batch.size() == 1) {
+            return first;
+        }
+        if (first instanceof ModbusWriteRegisterRequestBlueprint) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            for (PendingWrite write : batch) {
+                bytes.writeBytes(((ModbusWriteRegisterRequestBlueprint) write.request()).getRegisters().getBytes());
+            }
+            return new ModbusWriteRegisterRequestBlueprint(first.getUnitID(), first.getReference(),
+                    new ModbusRegisterArray(bytes.toByteArray()), true, first.getMaxTries());
+        }
+        List<Boolean> coils = new ArrayList<>();
+        for (PendingWrite write : batch) {
+            BitArray bits = ((ModbusWriteCoilRequestBlueprint) write.request()).getCoils();
+            for (int i = 0; i < bits.size(); i++) {
+                coils.add(bits.getBit(i));
+            }
+        }
+        boolean[] data = new boolean[coils.size()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = coils.get(i);
+        }
+        return new ModbusWriteCoilRequestBlueprint(first.getUnitID(), first.getReference(), new BitArray(data), true,
+                first.getMaxTries());
+    }
+
+    private void send(List<PendingWrite> batch) {
+        ModbusWriteRequestBlueprint request = toRequest(batch);
+        if (batch.size() == 1) {
+            PendingWrite write = batch.get(0);
+            comms.submitOneTimeWrite(request, write.resultCallback(), write.failureCallback());
+            return;
+        }
+        logger.trace("Merged {} writes into {}", batch.size(), request);
+        comms.submitOneTimeWrite(request, result -> {
+            for (PendingWrite write : batch) {
+                write.resultCallback().handle(new AsyncModbusWriteResult(write.request(), result.getResponse()));
+            }
+        }, failure -> {
+            for (PendingWrite write : batch) {
+                write.failureCallback().handle(new AsyncModbusFailure<>(write.request(), failure.getCause()));
+            }
+        });
+    }
+}
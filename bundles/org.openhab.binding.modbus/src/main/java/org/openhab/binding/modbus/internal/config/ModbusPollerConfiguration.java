@@ -29,6 +29,7 @@ public class ModbusPollerConfiguration {
     private @Nullable String type;
     private int maxTries = 3;// backwards compatibility and tests
     private long cacheMillis = 50L;
+    private int updateUnchangedEvery = 1;
 
     /**
      * Gets refresh period in milliseconds
@@ -115,4 +116,21 @@ public class ModbusPollerConfiguration {
     public void setCacheMillis(long cacheMillis) {
         this.cacheMillis = cacheMillis;
     }
+
+    /**
+     * Gets how often data things are updated with data that has not changed since the previous poll.
+     *
+     * 1 updates all data things on every poll, N updates data things with unchanged data on every Nth poll, and 0
+     * only updates data things whose data has changed.
+     */
+    public int getUpdateUnchangedEvery() {
+        return updateUnchangedEvery;
+    }
+
+    /**
+     * Sets how often data things are updated with data that has not changed since the previous poll, in polls
+     */
+    public void setUpdateUnchangedEvery(int updateUnchangedEvery) {
+        this.updateUnchangedEvery = updateUnchangedEvery;
+    }
 }
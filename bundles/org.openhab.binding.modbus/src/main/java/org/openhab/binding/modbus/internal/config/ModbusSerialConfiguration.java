@@ -39,6 +39,9 @@ public class ModbusSerialConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private boolean coalesceReads;
+    private int coalesceMaxGap;
+    private int writeCoalescingWindowMillis;
 
     public @Nullable String getPort() {
         return port;
@@ -167,4 +170,28 @@ public class ModbusSerialConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isCoalesceReads() {
+        return coalesceReads;
+    }
+
+    public void setCoalesceReads(boolean coalesceReads) {
+        this.coalesceReads = coalesceReads;
+    }
+
+    public int getCoalesceMaxGap() {
+        return coalesceMaxGap;
+    }
+
+    public void setCoalesceMaxGap(int coalesceMaxGap) {
+        this.coalesceMaxGap = coalesceMaxGap;
+    }
+
+    public int getWriteCoalescingWindowMillis() {
+        return writeCoalescingWindowMillis;
+    }
+
+    public void setWriteCoalescingWindowMillis(int writeCoalescingWindowMillis) {
+        this.writeCoalescingWindowMillis = writeCoalescingWindowMillis;
+    }
 }
@@ -33,6 +33,9 @@ public class ModbusTcpConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private boolean coalesceReads;
+    private int coalesceMaxGap;
+    private int writeCoalescingWindowMillis;
     private boolean rtuEncoded;
 
     public boolean getRtuEncoded() {
@@ -118,4 +121,28 @@ public class ModbusTcpConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isCoalesceReads() {
+        return coalesceReads;
+    }
+
+    public void setCoalesceReads(boolean coalesceReads) {
+        this.coalesceReads = coalesceReads;
+    }
+
+    public int getCoalesceMaxGap() {
+        return coalesceMaxGap;
+    }
+
+    public void setCoalesceMaxGap(int coalesceMaxGap) {
+        this.coalesceMaxGap = coalesceMaxGap;
+    }
+
+    public int getWriteCoalescingWindowMillis() {
+        return writeCoalescingWindowMillis;
+    }
+
+    public void setWriteCoalescingWindowMillis(int writeCoalescingWindowMillis) {
+        this.writeCoalescingWindowMillis = writeCoalescingWindowMillis;
+    }
 }
@@ -17,6 +17,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -46,8 +48,20 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @Nullable E endpoint;
     protected ModbusManager modbusManager;
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
+    /**
+     * Maximum gap, in registers or bits, allowed between merged polls of this endpoint. Negative to disable the
+     * merging of polls.
+     */
+    protected volatile int readCoalescingMaxGap = -1;
+    /**
+     * Time to collect writes to this endpoint before sending them, in milliseconds. Zero or negative to send writes
+     * directly.
+     */
+    protected volatile int writeCoalescingWindowMillis;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusReadPlanner readPlanner;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +90,11 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    readPlanner = readCoalescingMaxGap >= 0 ? new ModbusReadPlanner(comms, readCoalescingMaxGap)
+                            : null;
+                    writeCoalescer = writeCoalescingWindowMillis > 0
+                            ? new ModbusWriteCoalescer(comms, scheduler, writeCoalescingWindowMillis)
+                            : null;
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -93,6 +112,16 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ModbusReadPlanner localReadPlanner = readPlanner;
+        readPlanner = null;
+        if (localReadPlanner != null) {
+            localReadPlanner.dispose();
+        }
+        ModbusWriteCoalescer localWriteCoalescer = writeCoalescer;
+        writeCoalescer = null;
+        if (localWriteCoalescer != null) {
+            localWriteCoalescer.dispose();
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +139,22 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    /**
+     * Returns the planner merging the regular polls of this endpoint, or null if polls should be registered directly
+     * with the communication interface.
+     */
+    public @Nullable ModbusReadPlanner getReadPlanner() {
+        return readPlanner;
+    }
+
+    /**
+     * Returns the coalescer collecting the writes to this endpoint, or null if writes should be submitted directly to
+     * the communication interface.
+     */
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
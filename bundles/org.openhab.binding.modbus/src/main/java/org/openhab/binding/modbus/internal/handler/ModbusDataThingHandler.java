@@ -17,6 +17,7 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +36,7 @@ import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.CascadedValueTransformationImpl;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.SingleValueTransformation;
 import org.openhab.binding.modbus.internal.ValueTransformation;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
@@ -143,6 +145,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
     private volatile long updateUnchangedValuesEveryMillis;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
     private volatile boolean writeParametersHavingTransformationOnly;
@@ -225,7 +228,16 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
 
         logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
-        comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        submitWrite(comms, request);
+    }
+
+    private void submitWrite(ModbusCommunicationInterface localComms, ModbusWriteRequestBlueprint request) {
+        ModbusWriteCoalescer localWriteCoalescer = writeCoalescer;
+        if (localWriteCoalescer != null) {
+            localWriteCoalescer.submit(request, this::onWriteResponse, this::handleWriteError);
+        } else {
+            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        }
     }
 
     /**
@@ -391,7 +403,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         requests.stream().forEach(request -> {
             logger.trace("Submitting write request: {} to endpoint {} (based from transformation {})", request,
                     localComms.getEndpoint(), transformOutput);
-            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+            submitWrite(localComms, request);
         });
     }
 
@@ -420,6 +432,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             if (bridgeHandler instanceof ModbusEndpointThingHandler endpointHandler) {
                 slaveId = endpointHandler.getSlaveId();
                 comms = endpointHandler.getCommunicationInterface();
+                writeCoalescer = endpointHandler instanceof AbstractModbusEndpointThingHandler<?, ?> handler
+                        ? handler.getWriteCoalescer()
+                        : null;
                 childOfEndpoint = true;
                 functionCode = null;
                 readRequest = null;
@@ -438,6 +453,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 slaveId = localReadRequest.getUnitID();
                 functionCode = localReadRequest.getFunctionCode();
                 comms = localPollerHandler.getCommunicationInterface();
+                writeCoalescer = localPollerHandler.getWriteCoalescer();
                 pollStart = localReadRequest.getReference();
                 childOfEndpoint = false;
             } else {
@@ -474,6 +490,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         pollStart = 0;
         slaveId = 0;
         comms = null;
+        writeCoalescer = null;
         functionCode = null;
         readRequest = null;
         isWriteEnabled = false;
@@ -795,6 +812,47 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         return acceptedDataTypes.stream().anyMatch(clz -> clz.equals(OpenClosedType.class));
     }
 
+    /**
+     * Returns whether the registers read by this thing differ between two poll results of the parent poller.
+     *
+     * @param previous the bytes of the registers of the previous poll
+     * @param current the bytes of the registers of the current poll
+     * @return true if the data differs or cannot be compared, false if it is equal or this thing does not read data
+     */
+    public boolean isReadDataChanged(byte[] previous, byte[] current) {
+        ValueType readValueType = this.readValueType;
+        Optional<Integer> readIndex = this.readIndex;
+        if (!isReadEnabled || readValueType == null || readIndex.isEmpty()) {
+            return false;
+        }
+        int from = (readIndex.get() - pollStart) * 2;
+        int to = from + Math.max(readValueType.getBits() / 16, 1) * 2;
+        if (from < 0 || to > previous.length || to > current.length) {
+            return true;
+        }
+        return !Arrays.equals(previous, from, to, current, from, to);
+    }
+
+    /**
+     * Returns whether the coil or discrete input read by this thing differs between two poll results of the parent
+     * poller.
+     *
+     * @param previous the bits of the previous poll
+     * @param current the bits of the current poll
+     * @return true if the data differs or cannot be compared, false if it is equal or this thing does not read data
+     */
+    public boolean isReadDataChanged(BitArray previous, BitArray current) {
+        Optional<Integer> readIndex = this.readIndex;
+        if (!isReadEnabled || readIndex.isEmpty()) {
+            return false;
+        }
+        int index = readIndex.get() - pollStart;
+        if (index < 0 || index >= previous.size() || index >= current.size()) {
+            return true;
+        }
+        return previous.getBit(index) != current.getBit(index);
+    }
+
     public synchronized void onReadResult(AsyncModbusReadResult result) {
         result.getRegisters().ifPresent(registers -> onRegisters(result.getRequest(), registers));
         result.getBits().ifPresent(bits -> onBits(result.getRequest(), bits));
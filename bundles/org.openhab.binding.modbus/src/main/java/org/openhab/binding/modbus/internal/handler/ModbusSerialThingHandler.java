@@ -65,6 +65,8 @@ public class ModbusSerialThingHandler
         poolConfiguration.setAfterConnectionDelayMillis(config.getAfterConnectionDelayMillis());
         poolConfiguration.setConnectTimeoutMillis(config.getConnectTimeoutMillis());
         poolConfiguration.setInterTransactionDelayMillis(config.getTimeBetweenTransactionsMillis());
+        readCoalescingMaxGap = config.isCoalesceReads() ? Math.max(config.getCoalesceMaxGap(), 0) : -1;
+        writeCoalescingWindowMillis = config.getWriteCoalescingWindowMillis();
 
         // Never reconnect serial connections "automatically"
         poolConfiguration.setInterConnectDelayMillis(1000);
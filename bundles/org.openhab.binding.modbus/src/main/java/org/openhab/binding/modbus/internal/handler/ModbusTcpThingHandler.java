@@ -60,6 +60,8 @@ public class ModbusTcpThingHandler
         poolConfiguration.setConnectTimeoutMillis(config.getConnectTimeoutMillis());
         poolConfiguration.setInterConnectDelayMillis(config.getTimeBetweenReconnectMillis());
         poolConfiguration.setInterTransactionDelayMillis(config.getTimeBetweenTransactionsMillis());
+        readCoalescingMaxGap = config.isCoalesceReads() ? Math.max(config.getCoalesceMaxGap(), 0) : -1;
+        writeCoalescingWindowMillis = config.getWriteCoalescingWindowMillis();
         poolConfiguration.setReconnectAfterMillis(config.getReconnectAfterMillis());
     }
 
@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.PlannedRead;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.Registration;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlannerTest {
+
+    private final ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+    private final List<AsyncModbusReadResult> results = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+
+    private ModbusReadRequestBlueprint request(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new ModbusReadRequestBlueprint(1, functionCode, start, length, 3);
+    }
+
+    private Registration register(ModbusReadPlanner planner, ModbusReadRequestBlueprint request, long period) {
+        return planner.register(request, period, results::add, failures::add);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PlannedRead> planOf(int expectedRequests) {
+        ArgumentCaptor<ModbusReadRequestBlueprint> requests = ArgumentCaptor.forClass(ModbusReadRequestBlueprint.class);
+        verify(comms, atLeast(expectedRequests)).registerRegularPoll(requests.capture(), anyLong(), anyLong(),
+                any(ModbusReadCallback.class), any(ModbusFailureCallback.class));
+        List<ModbusReadRequestBlueprint> all = requests.getAllValues();
+        List<PlannedRead> plan = new ArrayList<>();
+        for (ModbusReadRequestBlueprint request : all.subList(all.size() - expectedRequests, all.size())) {
+            plan.add(new PlannedRead(request, List.of()));
+        }
+        return plan;
+    }
+
+    @Test
+    public void testAdjacentPollsAreMerged() {
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any())).thenReturn(mock(PollTask.class));
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 1000);
+        register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 5), 1000);
+        register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 100, 5), 1000);
+
+        List<PlannedRead> plan = planOf(2);
+        assertEquals(0, plan.get(0).request().getReference());
+        assertEquals(15, plan.get(0).request().getDataLength());
+        assertEquals(100, plan.get(1).request().getReference());
+        assertEquals(5, plan.get(1).request().getDataLength());
+    }
+
+    @Test
+    public void testGapAndLimits() {
+        List<Registration> registrations = new ArrayList<>();
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        registrations.add(register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 1000));
+        registrations.add(register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 13, 10), 1000));
+        registrations.add(register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 23, 110), 1000));
+
+        List<PlannedRead> adjacentOnly = ModbusReadPlanner.plan(registrations, 0);
+        assertEquals(2, adjacentOnly.size());
+        assertSame(registrations.get(0).getRequest(), adjacentOnly.get(0).request());
+        assertEquals(13, adjacentOnly.get(1).request().getReference());
+        assertEquals(120, adjacentOnly.get(1).request().getDataLength());
+
+        List<PlannedRead> plan = ModbusReadPlanner.plan(registrations, 3);
+        // the third poll would exceed the limit of 125 registers
+        assertEquals(2, plan.size());
+        assertEquals(0, plan.get(0).request().getReference());
+        assertEquals(23, plan.get(0).request().getDataLength());
+        assertEquals(2, plan.get(0).registrations().size());
+        assertSame(registrations.get(2).getRequest(), plan.get(1).request());
+    }
+
+    @Test
+    public void testIncompatiblePollsAreNotMerged() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 10);
+        register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 1000);
+        register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 10), 500);
+        register(planner, request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 10, 10), 1000);
+
+        List<PlannedRead> plan = planOf(3);
+        for (PlannedRead read : plan) {
+            assertEquals(10, read.request().getDataLength());
+        }
+    }
+
+    @Test
+    public void testUnregisterReplans() {
+        PollTask task = mock(PollTask.class);
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any())).thenReturn(task);
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        register(planner, request(ModbusReadFunctionCode.READ_COILS, 0, 8), 1000);
+        Registration second = register(planner, request(ModbusReadFunctionCode.READ_COILS, 8, 8), 1000);
+
+        assertTrue(planner.unregister(second));
+        assertFalse(planner.unregister(second));
+        List<PlannedRead> plan = planOf(1);
+        assertEquals(0, plan.get(0).request().getReference());
+        assertEquals(8, plan.get(0).request().getDataLength());
+
+        planner.dispose();
+        verify(comms, times(3)).unregisterRegularPoll(task);
+    }
+
+    @Test
+    public void testRegistersAreSliced() {
+        List<Registration> registrations = new ArrayList<>();
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 2);
+        registrations.add(register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2), 1000));
+        registrations.add(register(planner, request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 4, 1), 1000));
+        PlannedRead read = ModbusReadPlanner.plan(registrations, 2).get(0);
+        assertEquals(5, read.request().getDataLength());
+
+        ModbusReadPlanner.dispatchResult(read,
+                new AsyncModbusReadResult(read.request(), new ModbusRegisterArray(1, 2, 3, 4, 5)));
+
+        assertEquals(2, results.size());
+        assertSame(registrations.get(0).getRequest(), results.get(0).getRequest());
+        assertArrayEquals(new ModbusRegisterArray(1, 2).getBytes(), results.get(0).getRegisters().get().getBytes());
+        assertSame(registrations.get(1).getRequest(), results.get(1).getRequest());
+        assertArrayEquals(new ModbusRegisterArray(5).getBytes(), results.get(1).getRegisters().get().getBytes());
+    }
+
+    @Test
+    public void testBitsAreSliced() {
+        List<Registration> registrations = new ArrayList<>();
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        registrations.add(register(planner, request(ModbusReadFunctionCode.READ_INPUT_DISCRETES, 0, 2), 1000));
+        registrations.add(register(planner, request(ModbusReadFunctionCode.READ_INPUT_DISCRETES, 2, 3), 1000));
+        PlannedRead read = ModbusReadPlanner.plan(registrations, 0).get(0);
+
+        ModbusReadPlanner.dispatchResult(read,
+                new AsyncModbusReadResult(read.request(), new BitArray(true, false, false, true, true)));
+
+        assertEquals(2, results.size());
+        BitArray second = results.get(1).getBits().get();
+        assertEquals(3, second.size());
+        assertFalse(second.getBit(0));
+        assertTrue(second.getBit(1));
+        assertTrue(second.getBit(2));
+    }
+
+    @Test
+    public void testFailureIsReportedToAllPolls() {
+        List<Registration> registrations = new ArrayList<>();
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        registrations.add(register(planner, request(ModbusReadFunctionCode.READ_COILS, 0, 2), 1000));
+        registrations.add(register(planner, request(ModbusReadFunctionCode.READ_COILS, 2, 2), 1000));
+        PlannedRead read = ModbusReadPlanner.plan(registrations, 0).get(0);
+        Exception cause = new Exception("timeout");
+
+        ModbusReadPlanner.dispatchFailure(read, new AsyncModbusFailure<>(read.request(), cause));
+
+        assertEquals(2, failures.size());
+        assertSame(registrations.get(0).getRequest(), failures.get(0).getRequest());
+        assertSame(registrations.get(1).getRequest(), failures.get(1).getRequest());
+        assertSame(cause, failures.get(1).getCause());
+    }
+}
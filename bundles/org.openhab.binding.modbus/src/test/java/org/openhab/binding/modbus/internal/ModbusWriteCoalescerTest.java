@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer.PendingWrite;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusResponse;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteCoalescerTest {
+
+    private final List<AsyncModbusWriteResult> results = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusWriteRequestBlueprint>> failures = new ArrayList<>();
+
+    private PendingWrite register(int unitId, int reference, int... values) {
+        return register(unitId, reference, true, values);
+    }
+
+    private PendingWrite register(int unitId, int reference, boolean writeMultiple, int... values) {
+        return new PendingWrite(new ModbusWriteRegisterRequestBlueprint(unitId, reference,
+                new ModbusRegisterArray(values), writeMultiple, 3), results::add, failures::add);
+    }
+
+    private PendingWrite coil(int reference, boolean value) {
+        return coil(reference, value, true);
+    }
+
+    private PendingWrite coil(int reference, boolean value, boolean writeMultiple) {
+        return new PendingWrite(new ModbusWriteCoilRequestBlueprint(1, reference, value, writeMultiple, 3),
+                results::add, failures::add);
+    }
+
+    @Test
+    public void testContiguousRegistersAreMerged() {
+        List<PendingWrite> writes = List.of(register(1, 10, 1), register(1, 11, 2, 3), register(1, 13, 4));
+        List<List<PendingWrite>> batches = ModbusWriteCoalescer.merge(writes);
+        assertEquals(1, batches.size());
+
+        ModbusWriteRegisterRequestBlueprint request = (ModbusWriteRegisterRequestBlueprint) ModbusWriteCoalescer
+                .toRequest(batches.get(0));
+        assertEquals(10, request.getReference());
+        assertArrayEquals(new ModbusRegisterArray(1, 2, 3, 4).getBytes(), request.getRegisters().getBytes());
+    }
+
+    @Test
+    public void testOrderIsKept() {
+        // register 11 is written before register 10, so the writes must not be merged
+        List<PendingWrite> writes = List.of(register(1, 11, 1), register(1, 10, 2), register(2, 11, 3),
+                coil(12, true));
+        assertEquals(4, ModbusWriteCoalescer.merge(writes).size());
+    }
+
+    @Test
+    public void testRegisterLimit() {
+        List<PendingWrite> writes = new ArrayList<>();
+        for (int i = 0; i < ModbusWriteCoalescer.MAX_REGISTERS_WRITE_COUNT + 1; i++) {
+            writes.add(register(1, i, i));
+        }
+        List<List<PendingWrite>> batches = ModbusWriteCoalescer.merge(writes);
+        assertEquals(2, batches.size());
+        assertEquals(ModbusWriteCoalescer.MAX_REGISTERS_WRITE_COUNT, batches.get(0).size());
+    }
+
+    @Test
+    public void testContiguousCoilsAreMerged() {
+        List<List<PendingWrite>> batches = ModbusWriteCoalescer
+                .merge(List.of(coil(0, true), coil(1, false), coil(2, true)));
+        assertEquals(1, batches.size());
+
+        ModbusWriteCoilRequestBlueprint request = (ModbusWriteCoilRequestBlueprint) ModbusWriteCoalescer
+                .toRequest(batches.get(0));
+        BitArray coils = request.getCoils();
+        assertEquals(3, coils.size());
+        assertTrue(coils.getBit(0));
+        assertFalse(coils.getBit(1));
+        assertTrue(coils.getBit(2));
+    }
+
+    @Test
+    public void testSingleWritesAreNotMerged() {
+        // without writeMultipleEvenWithSingleRegisterOrCoil the device may only support FC06 and FC05
+        assertEquals(2, ModbusWriteCoalescer.merge(List.of(register(1, 10, false, 1), register(1, 11, false, 2)))
+                .size());
+        assertEquals(2, ModbusWriteCoalescer.merge(List.of(coil(0, true, false), coil(1, false, false))).size());
+        assertEquals(2, ModbusWriteCoalescer.merge(List.of(register(1, 10, 1), register(1, 11, false, 2))).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testResultsAreReportedPerWrite() {
+        ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, mock(ScheduledExecutorService.class), 50);
+        PendingWrite first = register(1, 10, 1);
+        PendingWrite second = register(1, 11, 2);
+        coalescer.submit(first.request(), first.resultCallback(), first.failureCallback());
+        coalescer.submit(second.request(), second.resultCallback(), second.failureCallback());
+        coalescer.flush();
+
+        ArgumentCaptor<ModbusWriteRequestBlueprint> request = ArgumentCaptor
+                .forClass(ModbusWriteRequestBlueprint.class);
+        ArgumentCaptor<ModbusWriteCallback> resultCallback = ArgumentCaptor.forClass(ModbusWriteCallback.class);
+        ArgumentCaptor<ModbusFailureCallback<ModbusWriteRequestBlueprint>> failureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms, times(1)).submitOneTimeWrite(request.capture(), resultCallback.capture(),
+                failureCallback.capture());
+        assertEquals(10, request.getValue().getReference());
+
+        resultCallback.getValue().handle(new AsyncModbusWriteResult(request.getValue(), mock(ModbusResponse.class)));
+        assertEquals(2, results.size());
+        assertSame(first.request(), results.get(0).getRequest());
+        assertSame(second.request(), results.get(1).getRequest());
+
+        Exception cause = new Exception("timeout");
+        failureCallback.getValue().handle(new AsyncModbusFailure<>(request.getValue(), cause));
+        assertEquals(2, failures.size());
+        assertSame(second.request(), failures.get(1).getRequest());
+        assertSame(cause, failures.get(1).getCause());
+
+        // nothing left to send
+        coalescer.flush();
+        verify(comms, times(1)).submitOneTimeWrite(any(), any(), any());
+    }
+}
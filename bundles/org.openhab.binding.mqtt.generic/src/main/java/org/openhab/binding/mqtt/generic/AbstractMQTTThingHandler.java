@@ -85,6 +85,11 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
     private AvailabilityMode availabilityMode = AvailabilityMode.ALL;
 
+    /**
+     * Shares the decoded and parsed messages between the channel states subscribed to the same topic
+     */
+    protected final ReceivedPayloadCache payloadCache = new ReceivedPayloadCache();
+
     public AbstractMQTTThingHandler(Thing thing, int subscribeTimeout) {
         super(thing);
         this.subscribeTimeout = subscribeTimeout;
@@ -249,6 +254,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
             logger.warn("unsubscription on disposal failed for {}: ", thing.getUID(), e);
         }
         connection = null;
+        payloadCache.clear();
         super.dispose();
     }
 
@@ -331,6 +337,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
             if (transformation_pattern != null && transformationServiceProvider != null) {
                 state.addTransformation(transformation_pattern, transformationServiceProvider);
             }
+            state.setPayloadCache(payloadCache);
             MqttBrokerConnection connection = getConnection();
             if (connection != null) {
                 state.start(connection, scheduler, 0);
@@ -47,6 +47,13 @@ public class ChannelConfig {
     public boolean trigger = false;
     public String unit = "";
 
+    /**
+     * If true, a received payload that is the same as the previous one is skipped before it is transformed and parsed.
+     * It is still processed if the last processed payload is older than {@link #duplicatePassThroughInterval} seconds.
+     */
+    public boolean ignoreDuplicates = false;
+    public int duplicatePassThroughInterval = 60;
+
     public String transformationPattern = "";
     public String transformationPatternOut = "";
     public String formatBeforePublish = "%s";
@@ -80,4 +80,10 @@ public class ChannelConfigBuilder {
         config.trigger = trigger;
         return this;
     }
+
+    public ChannelConfigBuilder withIgnoreDuplicates(boolean ignoreDuplicates, int passThroughInterval) {
+        config.ignoreDuplicates = ignoreDuplicates;
+        config.duplicatePassThroughInterval = passThroughInterval;
+        return this;
+    }
 }
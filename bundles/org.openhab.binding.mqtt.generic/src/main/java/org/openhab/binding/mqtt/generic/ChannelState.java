@@ -14,12 +14,15 @@ package org.openhab.binding.mqtt.generic;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.IllegalFormatException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -67,6 +70,16 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
     private final Object futureLock = new Object();
+    private @Nullable ReceivedPayloadCache payloadCache;
+
+    // Duplicate suppression, see ChannelConfig#ignoreDuplicates
+    private final Object duplicateLock = new Object();
+    private final LongSupplier nanoTime;
+    private byte @Nullable [] lastPayload;
+    private @Nullable String lastPayloadTopic;
+    private long lastProcessedNanos;
+    private final AtomicLong processedMessages = new AtomicLong();
+    private final AtomicLong skippedDuplicates = new AtomicLong();
 
     /**
      * Creates a new channel state.
@@ -79,17 +92,33 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     public ChannelState(ChannelConfig config, ChannelUID channelUID, Value cachedValue,
             @Nullable ChannelStateUpdateListener channelStateUpdateListener) {
+        this(config, channelUID, cachedValue, channelStateUpdateListener, System::nanoTime);
+    }
+
+    ChannelState(ChannelConfig config, ChannelUID channelUID, Value cachedValue,
+            @Nullable ChannelStateUpdateListener channelStateUpdateListener, LongSupplier nanoTime) {
         this.config = config;
         this.channelStateUpdateListener = channelStateUpdateListener;
         this.channelUID = channelUID;
         this.cachedValue = cachedValue;
         this.readOnly = config.commandTopic.isBlank();
+        this.nanoTime = nanoTime;
     }
 
     public boolean isReadOnly() {
         return this.readOnly;
     }
 
+    /**
+     * Share decoded and parsed messages with the other channel states of the thing, that are subscribed to the same
+     * topics.
+     *
+     * @param payloadCache The cache shared by the channel states of a thing, or null to not share messages
+     */
+    public void setPayloadCache(@Nullable ReceivedPayloadCache payloadCache) {
+        this.payloadCache = payloadCache;
+    }
+
     /**
      * Add a transformation that is applied for each received MQTT topic value.
      * The transformations are executed in order.
@@ -153,6 +182,21 @@ public class ChannelState implements MqttMessageSubscriber {
         return channelUID;
     }
 
+    /**
+     * Returns the number of received messages that have been processed.
+     */
+    public long getProcessedMessages() {
+        return processedMessages.get();
+    }
+
+    /**
+     * Returns the number of received messages that have been skipped, because they were the same as the previous
+     * message and {@link ChannelConfig#ignoreDuplicates} is set.
+     */
+    public long getSkippedDuplicates() {
+        return skippedDuplicates.get();
+    }
+
     /**
      * Incoming message from the MqttBrokerConnection
      *
@@ -167,6 +211,14 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        if (isDuplicate(topic, payload)) {
+            skippedDuplicates.incrementAndGet();
+            logger.trace("Skipping duplicate MQTT message on topic {} for channel {}", topic, channelUID);
+            receivedOrTimeout();
+            return;
+        }
+        processedMessages.incrementAndGet();
+
         if (cachedValue.isBinary()) {
             cachedValue.update(payload);
             channelStateUpdateListener.updateChannelState(channelUID, cachedValue.getChannelState());
@@ -175,9 +227,16 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
+        final ReceivedPayloadCache payloadCache = this.payloadCache;
+        final ReceivedPayload receivedPayload = payloadCache != null ? payloadCache.get(topic, payload) : null;
+        String strValue = receivedPayload != null ? receivedPayload.getText()
+                : new String(payload, StandardCharsets.UTF_8);
+        boolean firstTransformation = true;
         for (ChannelStateTransformation t : transformationsIn) {
-            String transformedValue = t.processValue(strValue);
+            String transformedValue = firstTransformation && receivedPayload != null
+                    ? t.processPayload(receivedPayload)
+                    : t.processValue(strValue);
+            firstTransformation = false;
             if (transformedValue != null) {
                 strValue = transformedValue;
             } else {
@@ -284,6 +343,39 @@ public class ChannelState implements MqttMessageSubscriber {
         this.channelStateUpdateListener = null;
         hasSubscribed = false;
         cachedValue.resetState();
+        forgetLastPayload();
+    }
+
+    /**
+     * Compares the received message byte for byte with the last processed one, before it is decoded. Trigger channels
+     * never skip messages, as every message is an event. A repeated message is still processed after the configured
+     * pass-through interval, so that the state of linked items is refreshed.
+     *
+     * @return true if the message should be skipped
+     */
+    private boolean isDuplicate(String topic, byte[] payload) {
+        if (!config.ignoreDuplicates || config.trigger) {
+            return false;
+        }
+        synchronized (duplicateLock) {
+            long now = nanoTime.getAsLong();
+            long passThroughNanos = TimeUnit.SECONDS.toNanos(config.duplicatePassThroughInterval);
+            if (topic.equals(lastPayloadTopic) && Arrays.equals(lastPayload, payload)
+                    && (passThroughNanos <= 0 || now - lastProcessedNanos < passThroughNanos)) {
+                return true;
+            }
+            lastPayload = payload.clone();
+            lastPayloadTopic = topic;
+            lastProcessedNanos = now;
+            return false;
+        }
+    }
+
+    private void forgetLastPayload() {
+        synchronized (duplicateLock) {
+            lastPayload = null;
+            lastPayloadTopic = null;
+        }
     }
 
     private void receivedOrTimeout() {
@@ -369,6 +461,9 @@ public class ChannelState implements MqttMessageSubscriber {
             return f;
         }
 
+        // the command may change the state of linked items, so the next received message must not be skipped
+        forgetLastPayload();
+
         Command mqttCommandValue = cachedValue.parseCommand(command);
         Value mqttFormatter = cachedValue;
 
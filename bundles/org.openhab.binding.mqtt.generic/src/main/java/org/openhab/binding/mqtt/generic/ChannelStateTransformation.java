@@ -16,11 +16,14 @@ import java.lang.ref.WeakReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.SimpleJsonPath;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonElement;
+
 /**
  * A transformation for a {@link ChannelState}. It is applied for each received value on an MQTT topic.
  *
@@ -28,11 +31,14 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class ChannelStateTransformation {
+    private static final String JSONPATH_SERVICE = "JSONPATH";
+
     private final Logger logger = LoggerFactory.getLogger(ChannelStateTransformation.class);
     private final TransformationServiceProvider provider;
     private WeakReference<@Nullable TransformationService> transformationService = new WeakReference<>(null);
     final String pattern;
     final String serviceName;
+    private final @Nullable SimpleJsonPath jsonPath;
 
     /**
      * Creates a new channel state transformer.
@@ -53,6 +59,7 @@ public class ChannelStateTransformation {
         String type = pattern.substring(0, index).toUpperCase();
         this.pattern = pattern.substring(index + 1);
         this.serviceName = type;
+        this.jsonPath = parseJsonPath(this.serviceName, this.pattern);
     }
 
     /**
@@ -68,6 +75,11 @@ public class ChannelStateTransformation {
         this.serviceName = serviceName;
         this.pattern = pattern;
         this.provider = provider;
+        this.jsonPath = parseJsonPath(serviceName, pattern);
+    }
+
+    private static @Nullable SimpleJsonPath parseJsonPath(String serviceName, String pattern) {
+        return JSONPATH_SERVICE.equals(serviceName) ? SimpleJsonPath.parse(pattern) : null;
     }
 
     /**
@@ -77,15 +89,52 @@ public class ChannelStateTransformation {
      * @return The transformed value
      */
     protected @Nullable String processValue(String value) {
+        TransformationService transformationService = getTransformationService();
+        if (transformationService == null) {
+            return value;
+        }
+        return transform(transformationService, value);
+    }
+
+    /**
+     * Will be called by the {@link ChannelState} for an incoming MQTT message, if this is the first transformation.
+     *
+     * Simple JSONPATH expressions are evaluated on the JSON document shared by all channels of the message, instead of
+     * parsing the message again in the transformation service.
+     *
+     * @param payload The incoming message
+     * @return The transformed value
+     */
+    protected @Nullable String processPayload(ReceivedPayload payload) {
+        TransformationService transformationService = getTransformationService();
+        if (transformationService == null) {
+            return payload.getText();
+        }
+        SimpleJsonPath jsonPath = this.jsonPath;
+        if (jsonPath != null) {
+            JsonElement json = payload.getJson();
+            String value = json != null ? jsonPath.extract(json) : null;
+            if (value != null) {
+                return value;
+            }
+        }
+        return transform(transformationService, payload.getText());
+    }
+
+    private @Nullable TransformationService getTransformationService() {
         TransformationService transformationService = this.transformationService.get();
         if (transformationService == null) {
             transformationService = provider.getTransformationService(serviceName);
             if (transformationService == null) {
                 logger.warn("Transformation service {} for pattern {} not found!", serviceName, pattern);
-                return value;
+                return null;
             }
             this.transformationService = new WeakReference<>(transformationService);
         }
+        return transformationService;
+    }
+
+    private @Nullable String transform(TransformationService transformationService, String value) {
         String returnValue = null;
         try {
             returnValue = transformationService.transform(pattern, value);
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * A received MQTT message, shared by all {@link ChannelState}s subscribed to its topic. The payload is decoded and
+ * parsed as JSON at most once, when the first channel asks for it.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReceivedPayload {
+    private final byte[] payload;
+    private @Nullable String text;
+    private @Nullable JsonElement json;
+    private boolean jsonParsed = false;
+
+    public ReceivedPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * Returns whether this is the given payload.
+     */
+    boolean isPayload(byte[] payload) {
+        return this.payload == payload;
+    }
+
+    /**
+     * Returns the payload decoded as UTF-8 text.
+     */
+    public synchronized String getText() {
+        String text = this.text;
+        if (text == null) {
+            text = new String(payload, StandardCharsets.UTF_8);
+            this.text = text;
+        }
+        return text;
+    }
+
+    /**
+     * Returns the payload parsed as JSON.
+     *
+     * @return the parsed document, or null if the payload is not JSON
+     */
+    public synchronized @Nullable JsonElement getJson() {
+        if (!jsonParsed) {
+            jsonParsed = true;
+            String text = getText();
+            if (!text.isBlank()) {
+                try {
+                    json = JsonParser.parseString(text);
+                } catch (JsonParseException e) {
+                    json = null;
+                }
+            }
+        }
+        return json;
+    }
+}
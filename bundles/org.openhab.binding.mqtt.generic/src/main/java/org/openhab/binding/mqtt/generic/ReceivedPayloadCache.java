@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Keeps the last received message of every topic of a thing, so that all {@link ChannelState}s subscribed to the same
+ * topic share the decoded and parsed payload.
+ * <p>
+ * The broker connection hands the same payload array to every subscriber of a topic, which is used to recognize a
+ * message that has already been seen by another channel.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReceivedPayloadCache {
+    private final Map<String, ReceivedPayload> lastPayloads = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared representation of a received message.
+     *
+     * @param topic the topic the message was received on
+     * @param payload the payload of the message
+     */
+    public ReceivedPayload get(String topic, byte[] payload) {
+        return lastPayloads.compute(topic,
+                (t, last) -> last != null && last.isPayload(payload) ? last : new ReceivedPayload(payload));
+    }
+
+    /**
+     * Forgets all received messages.
+     */
+    public void clear() {
+        lastPayloads.clear();
+    }
+}
@@ -130,6 +130,7 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
      */
     protected ChannelState createChannelState(ChannelConfig channelConfig, ChannelUID channelUID, Value valueState) {
         ChannelState state = new ChannelState(channelConfig, channelUID, valueState, this);
+        state.setPayloadCache(payloadCache);
 
         // Incoming value transformations
         state.addTransformation(channelConfig.transformationPattern, transformationServiceProvider);
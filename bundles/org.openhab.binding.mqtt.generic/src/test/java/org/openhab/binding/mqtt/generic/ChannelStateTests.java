@@ -28,6 +28,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -195,6 +196,58 @@ public class ChannelStateTests {
         verify(channelStateUpdateListenerMock).updateChannelState(eq(channelUIDMock), any());
     }
 
+    @Test
+    public void receiveDuplicateTest() {
+        ChannelConfig config = ChannelConfigBuilder.create("state", "command").withIgnoreDuplicates(true, 0).build();
+        ChannelState c = spy(new ChannelState(config, channelUIDMock, textValue, channelStateUpdateListenerMock));
+        c.start(connectionMock, mock(ScheduledExecutorService.class), 100);
+
+        c.processMessage("state", "A TEST".getBytes());
+        c.processMessage("state", "A TEST".getBytes());
+        c.processMessage("state", "B TEST".getBytes());
+        assertThat(textValue.getChannelState().toString(), is("B TEST"));
+        assertThat(c.getProcessedMessages(), is(2L));
+        assertThat(c.getSkippedDuplicates(), is(1L));
+
+        // a published command resets the comparison
+        c.publishValue(new StringType("C TEST"));
+        c.processMessage("state", "B TEST".getBytes());
+        assertThat(c.getProcessedMessages(), is(3L));
+        verify(channelStateUpdateListenerMock, times(3)).updateChannelState(eq(channelUIDMock), any());
+    }
+
+    @Test
+    public void receiveDuplicatePassThroughTest() {
+        AtomicLong nanoTime = new AtomicLong();
+        ChannelConfig config = ChannelConfigBuilder.create("state", "command").withIgnoreDuplicates(true, 1).build();
+        ChannelState c = spy(
+                new ChannelState(config, channelUIDMock, textValue, channelStateUpdateListenerMock, nanoTime::get));
+        c.start(connectionMock, mock(ScheduledExecutorService.class), 100);
+
+        c.processMessage("state", "A TEST".getBytes());
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        c.processMessage("state", "A TEST".getBytes());
+        assertThat(c.getSkippedDuplicates(), is(1L));
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        c.processMessage("state", "A TEST".getBytes());
+        assertThat(c.getProcessedMessages(), is(2L));
+        assertThat(c.getSkippedDuplicates(), is(1L));
+    }
+
+    @Test
+    public void receiveDuplicateTriggerTest() {
+        ChannelConfig config = ChannelConfigBuilder.create("state", "command").makeTrigger(true)
+                .withIgnoreDuplicates(true, 0).build();
+        ChannelState c = spy(new ChannelState(config, channelUIDMock, textValue, channelStateUpdateListenerMock));
+        c.start(connectionMock, mock(ScheduledExecutorService.class), 100);
+
+        c.processMessage("state", "PRESSED".getBytes());
+        c.processMessage("state", "PRESSED".getBytes());
+        assertThat(c.getSkippedDuplicates(), is(0L));
+        verify(channelStateUpdateListenerMock, times(2)).triggerChannel(eq(channelUIDMock), eq("PRESSED"));
+    }
+
     @Test
     public void receiveDecimalTest() {
         NumberValue value = new NumberValue(null, null, new BigDecimal(10), null);
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.mqtt.generic.ReceivedPayload;
+import org.openhab.binding.mqtt.generic.ReceivedPayloadCache;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests the {@link SimpleJsonPath} evaluation on shared payloads.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleJsonPathTests {
+    private static final String ZIGBEE2MQTT_PAYLOAD = "{\"battery\":97,\"humidity\":48.27,\"linkquality\":123,"
+            + "\"temperature\":21.5,\"voltage\":2995,\"pressure\":1014.2,\"update\":{\"state\":\"idle\"},"
+            + "\"color\":{\"x\":0.3,\"y\":0.31},\"occupancy\":false,\"power_on_behavior\":null,\"device\":"
+            + "{\"friendlyName\":\"living room\",\"ieeeAddr\":\"0x00158d0001e2f0a1\"},\"big\":12345678901234567890,"
+            + "\"exp\":1e3,\"list\":[1,2]}";
+
+    private @Nullable String extract(String path) {
+        SimpleJsonPath jsonPath = SimpleJsonPath.parse(path);
+        assertThat(jsonPath, is(notNullValue()));
+        JsonElement json = JsonParser.parseString(ZIGBEE2MQTT_PAYLOAD);
+        return jsonPath.extract(json);
+    }
+
+    @Test
+    public void extractsPrimitives() {
+        assertThat(extract("$.battery"), is("97"));
+        assertThat(extract("$.humidity"), is("48.27"));
+        assertThat(extract("$.update.state"), is("idle"));
+        assertThat(extract("$['color'].x"), is("0.3"));
+        assertThat(extract("$.occupancy"), is("false"));
+        assertThat(extract("$.device.friendlyName"), is("living room"));
+        assertThat(extract("$.list[1]"), is("2"));
+        assertThat(extract("$.big"), is("12345678901234567890"));
+        // formatted like the JSONPATH transformation does
+        assertThat(extract("$.exp"), is("1000.0"));
+    }
+
+    @Test
+    public void leavesOtherResultsToTheTransformation() {
+        assertThat(extract("$.update"), is(nullValue()));
+        assertThat(extract("$.list"), is(nullValue()));
+        assertThat(extract("$.power_on_behavior"), is(nullValue()));
+        assertThat(extract("$.missing"), is(nullValue()));
+        assertThat(extract("$.list[5]"), is(nullValue()));
+        assertThat(extract("$.battery.value"), is(nullValue()));
+    }
+
+    @Test
+    public void rejectsComplexExpressions() {
+        assertThat(SimpleJsonPath.parse("$..temperature"), is(nullValue()));
+        assertThat(SimpleJsonPath.parse("$.list[*]"), is(nullValue()));
+        assertThat(SimpleJsonPath.parse("$.list[?(@ > 1)]"), is(nullValue()));
+        assertThat(SimpleJsonPath.parse("$.list.length()"), is(nullValue()));
+        assertThat(SimpleJsonPath.parse("temperature"), is(nullValue()));
+    }
+
+    @Test
+    public void payloadIsSharedBetweenChannels() {
+        ReceivedPayloadCache cache = new ReceivedPayloadCache();
+        byte[] payload = ZIGBEE2MQTT_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+
+        ReceivedPayload first = cache.get("zigbee2mqtt/sensor", payload);
+        ReceivedPayload second = cache.get("zigbee2mqtt/sensor", payload);
+        assertThat(second, is(sameInstance(first)));
+        assertThat(second.getJson(), is(sameInstance(first.getJson())));
+
+        ReceivedPayload next = cache.get("zigbee2mqtt/sensor", ZIGBEE2MQTT_PAYLOAD.getBytes(StandardCharsets.UTF_8));
+        assertThat(next, is(not(sameInstance(first))));
+    }
+
+    @Test
+    public void invalidJsonIsNotParsed() {
+        ReceivedPayload payload = new ReceivedPayload("ON".getBytes(StandardCharsets.UTF_8));
+        assertThat(payload.getText(), is("ON"));
+        // a lenient parser accepts a bare word as string, which the path cannot navigate into
+        SimpleJsonPath path = SimpleJsonPath.parse("$.state");
+        JsonElement json = payload.getJson();
+        assertThat(json == null || path == null || path.extract(json) == null, is(true));
+    }
+}
@@ -69,6 +69,17 @@ public class DiscoverComponents implements MqttMessageSubscriber {
      */
     public static interface ComponentDiscovered {
         void componentDiscovered(HaID homeAssistantTopicID, AbstractComponent<?> component);
+
+        /**
+         * Returns whether a component with exactly this configuration is already known. The component is then not
+         * created again, which saves parsing the retained configurations on every reconnect.
+         *
+         * @param homeAssistantTopicID The topic ID of the component
+         * @param configJSON The received component configuration
+         */
+        default boolean isComponentKnown(HaID homeAssistantTopicID, String configJSON) {
+            return false;
+        }
     }
 
     /**
@@ -101,6 +112,11 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         AbstractComponent<?> component = null;
 
         if (config.length() > 0) {
+            final ComponentDiscovered discoveredListener = this.discoveredListener;
+            if (discoveredListener != null && discoveredListener.isComponentKnown(haID, config)) {
+                logger.trace("HomeAssistant component {} is unchanged", haID);
+                return;
+            }
             try {
                 component = ComponentFactory.createComponent(thingUID, haID, config, updateListener, tracker, scheduler,
                         gson, transformationServiceProvider, newStyleChannels);
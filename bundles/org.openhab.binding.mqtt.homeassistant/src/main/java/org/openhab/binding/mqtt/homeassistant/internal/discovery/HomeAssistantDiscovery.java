@@ -13,7 +13,10 @@
 package org.openhab.binding.mqtt.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -24,8 +27,10 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -43,11 +48,13 @@ import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantConfiguratio
 import org.openhab.binding.mqtt.homeassistant.internal.config.ChannelConfigurationTypeAdapterFactory;
 import org.openhab.binding.mqtt.homeassistant.internal.config.dto.AbstractChannelConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.exception.ConfigurationException;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.DiscoveryService;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
@@ -57,15 +64,25 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * The {@link HomeAssistantDiscovery} is responsible for discovering device nodes that follow the
  * Home Assistant MQTT discovery convention (https://www.home-assistant.io/docs/mqtt/discovery/).
+ * <p>
+ * The retained component configurations are received again on every reconnect. They are parsed on a thread pool, and
+ * the parsed configuration of every topic is kept together with a hash of its content, so that unchanged
+ * configurations are not parsed again.
  *
  * @author David Graeff - Initial contribution
  */
@@ -83,6 +100,25 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
 
+    /**
+     * A parsed component configuration and the hash of the payload it was parsed from.
+     */
+    private record ParsedConfig(byte[] digest, AbstractChannelConfiguration config) {
+    }
+
+    private final Map<String, ParsedConfig> parsedConfigs = new ConcurrentHashMap<>();
+    // the last payload of every config topic, configurations parsed from older payloads are dropped
+    private final Map<String, byte[]> latestPayloads = new ConcurrentHashMap<>();
+    private final ExecutorService parser = ThreadPoolManager.getPool(THREAD_POOL_NAME);
+
+    // statistics of the configurations received since the last published results
+    private final AtomicInteger parsedConfigCount = new AtomicInteger();
+    private final AtomicInteger unchangedConfigCount = new AtomicInteger();
+    private volatile long firstConfigNanos;
+
+    // metrics
+    private volatile @Nullable Metrics metrics;
+
     public static final Map<String, String> HA_COMP_TO_NAME = new TreeMap<>();
     {
         HA_COMP_TO_NAME.put("alarm_control_panel", "Alarm Control Panel");
@@ -101,6 +137,13 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     static final String BIRTH_TOPIC = "homeassistant/status";
     static final String ONLINE_STATUS = "online";
 
+    private static final String THREAD_POOL_NAME = "mqtt-homeassistant-discovery";
+    private static final String METRIC_CONFIGS = "openhab.mqtt.homeassistant.discovery.configs";
+    private static final String METRIC_PARSE_TIME = "openhab.mqtt.homeassistant.discovery.parse.time";
+    private static final String METRIC_TAG_SERVICE = "service";
+    private static final String METRIC_TAG_OUTCOME = "outcome";
+    private static final String SERVICE_ID = "discovery.mqttha";
+
     @NonNullByDefault({})
     protected MqttChannelTypeProvider typeProvider;
 
@@ -129,6 +172,38 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         configuration = (new Configuration(properties)).as(HomeAssistantConfiguration.class);
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getOHMeterRegistry();
+        metrics = new Metrics(meterRegistry,
+                Counter.builder(METRIC_CONFIGS).description("Number of received component configurations")
+                        .tag(METRIC_TAG_SERVICE, SERVICE_ID).tag(METRIC_TAG_OUTCOME, "parsed").register(meterRegistry),
+                Counter.builder(METRIC_CONFIGS).description("Number of received component configurations")
+                        .tag(METRIC_TAG_SERVICE, SERVICE_ID).tag(METRIC_TAG_OUTCOME, "unchanged")
+                        .register(meterRegistry),
+                Timer.builder(METRIC_PARSE_TIME).description("Time needed to parse a component configuration")
+                        .tag(METRIC_TAG_SERVICE, SERVICE_ID).register(meterRegistry));
+    }
+
+    public void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        Metrics localMetrics = metrics;
+        metrics = null;
+        if (localMetrics != null) {
+            localMetrics.remove();
+        }
+    }
+
+    /**
+     * The meters of the discovery and the registry they are registered with
+     */
+    private record Metrics(MeterRegistry registry, Counter parsedConfigs, Counter unchangedConfigs, Timer parseTime) {
+        void remove() {
+            registry.remove(parsedConfigs);
+            registry.remove(unchangedConfigs);
+            registry.remove(parseTime);
+        }
+    }
+
     @Override
     protected MQTTTopicDiscoveryService getDiscoveryService() {
         return mqttTopicDiscovery;
@@ -188,6 +263,66 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             return;
         }
 
+        if (firstConfigNanos == 0) {
+            firstConfigNanos = System.nanoTime();
+        }
+        latestPayloads.put(topic, payload);
+
+        // Retained configurations are received again on every reconnect, only parse them if they have changed
+        byte[] digest = digest(payload);
+        ParsedConfig parsed = parsedConfigs.get(topic);
+        if (parsed != null && Arrays.equals(parsed.digest(), digest)) {
+            unchangedConfigCount.incrementAndGet();
+            Metrics localMetrics = metrics;
+            if (localMetrics != null) {
+                localMetrics.unchangedConfigs().increment();
+            }
+            configReceived(connectionBridge, topic, payload, parsed.config());
+        } else {
+            parser.execute(() -> parseConfig(connectionBridge, topic, payload, digest));
+        }
+    }
+
+    private static byte[] digest(byte[] payload) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(payload);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256, but never treat a payload as unchanged without it
+            return payload.clone();
+        }
+    }
+
+    private void parseConfig(ThingUID connectionBridge, String topic, byte[] payload, byte[] digest) {
+        HaID haID = new HaID(topic);
+        long start = System.nanoTime();
+        try {
+            AbstractChannelConfiguration config = AbstractChannelConfiguration
+                    .fromString(new String(payload, StandardCharsets.UTF_8), gson);
+
+            parsedConfigCount.incrementAndGet();
+            Metrics localMetrics = metrics;
+            if (localMetrics != null) {
+                localMetrics.parsedConfigs().increment();
+                localMetrics.parseTime().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+
+            parsedConfigs.put(topic, new ParsedConfig(digest, config));
+            configReceived(connectionBridge, topic, payload, config);
+        } catch (ConfigurationException e) {
+            logger.warn("HomeAssistant discover error: invalid configuration of thing {} component {}: {}",
+                    haID.objectID, haID.component, e.getMessage());
+        } catch (Exception e) {
+            logger.warn("HomeAssistant discover error: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void configReceived(ThingUID connectionBridge, String topic, byte[] payload,
+            AbstractChannelConfiguration config) {
+        // Configurations are parsed in parallel, a newer configuration of the topic may already have been applied
+        if (latestPayloads.get(topic) != payload) {
+            return;
+        }
+
         // Reset the found-component timer.
         // We will collect components for the thing label description for another 2 seconds.
         final ScheduledFuture<?> future = this.future;
@@ -202,9 +337,6 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         HaID haID = new HaID(topic);
 
         try {
-            AbstractChannelConfiguration config = AbstractChannelConfiguration
-                    .fromString(new String(payload, StandardCharsets.UTF_8), gson);
-
             final String thingID = config.getThingId(haID.objectID);
             final ThingUID thingUID = new ThingUID(MqttBindingConstants.HOMEASSISTANT_MQTT_THING, connectionBridge,
                     thingID);
@@ -276,19 +408,32 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected void publishResults() {
         Collection<DiscoveryResult> localResults;
 
-        localResults = new ArrayList<>(results.values());
-        results.clear();
-        componentsPerThingID.clear();
+        synchronized (this) {
+            localResults = new ArrayList<>(results.values());
+            results.clear();
+            componentsPerThingID.clear();
+        }
+        if (logger.isDebugEnabled()) {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - firstConfigNanos);
+            logger.debug("Processed {} new and {} unchanged HomeAssistant component configurations in {} ms",
+                    parsedConfigCount.get(), unchangedConfigCount.get(), elapsed);
+        }
+        parsedConfigCount.set(0);
+        unchangedConfigCount.set(0);
+        firstConfigNanos = 0;
         for (DiscoveryResult result : localResults) {
             thingDiscovered(result);
         }
     }
 
     @Override
-    public void topicVanished(ThingUID connectionBridge, MqttBrokerConnection connection, String topic) {
+    public synchronized void topicVanished(ThingUID connectionBridge, MqttBrokerConnection connection,
+            String topic) {
         if (!topic.endsWith("/config")) {
             return;
         }
+        parsedConfigs.remove(topic);
+        latestPayloads.remove(topic);
         if (thingIDPerTopic.containsKey(topic)) {
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             if (thingUID != null) {
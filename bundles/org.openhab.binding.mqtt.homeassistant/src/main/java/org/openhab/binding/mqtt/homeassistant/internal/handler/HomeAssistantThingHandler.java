@@ -264,6 +264,24 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
         delayedProcessing.accept(component);
     }
 
+    /**
+     * Callback of {@link DiscoverComponents}. Components restored from the channel configurations or discovered before a
+     * reconnect are kept if their configuration is unchanged.
+     */
+    @Override
+    public boolean isComponentKnown(HaID homeAssistantTopicID, String configJSON) {
+        int configHash = configJSON.hashCode();
+        synchronized (haComponents) {
+            for (AbstractComponent<?> known : haComponents.values()) {
+                if (known.getConfigHash() == configHash && known.getHaID().equals(homeAssistantTopicID)) {
+                    known.setConfigSeen();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Callback of {@link DelayedBatchProcessing}.
      * Add all newly discovered components to the Thing and start the components.
@@ -93,6 +93,30 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
                 "climate/0x847127fffe11dd6a_climate_zigbee2mqtt", "switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt"));
     }
 
+    @Test
+    public void testRediscoveryOfUnchangedConfiguration() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        discovery.addDiscoveryListener(discoveryListener);
+
+        // When the retained configurations are received again after a reconnect
+        for (int round = 0; round < 2; round++) {
+            var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+            discovery.receivedMessage(HA_UID, bridgeConnection,
+                    "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config",
+                    getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+            discovery.receivedMessage(HA_UID, bridgeConnection,
+                    "homeassistant/switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/config",
+                    getResourceAsByteArray("component/configTS0601AutoLock.json"));
+            assert latch.await(3, TimeUnit.SECONDS);
+        }
+
+        // Then the thing is found again with the cached configurations
+        var discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(2));
+        assertThat(discoveryResults.get(1).getLabel(), is("th1 (Climate Control, Switch)"));
+        assertThat(discoveryResults.get(1).getProperties(), is(discoveryResults.get(0).getProperties()));
+    }
+
     private static class TestHomeAssistantDiscovery extends HomeAssistantDiscovery {
         public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider) {
             super(null);
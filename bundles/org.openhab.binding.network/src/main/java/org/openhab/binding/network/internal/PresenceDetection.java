@@ -14,7 +14,6 @@ package org.openhab.binding.network.internal;
 
 import static org.openhab.binding.network.internal.PresenceDetectionType.*;
 
-import java.io.IOException;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.SocketException;
@@ -25,16 +24,13 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -89,20 +85,20 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     ExpiringCacheAsync<PresenceDetectionValue> cache;
 
     private final PresenceDetectionListener updateListener;
+    private final PresenceProbeEngine probeEngine;
     private ScheduledExecutorService scheduledExecutorService;
 
     private Set<String> networkInterfaceNames = Set.of();
     private @Nullable ScheduledFuture<?> refreshJob;
-    protected @Nullable ExecutorService detectionExecutorService;
-    protected @Nullable ExecutorService waitForResultExecutorService;
     private String dhcpState = "off";
     int detectionChecks;
     private String lastReachableNetworkInterfaceName = "";
 
     public PresenceDetection(final PresenceDetectionListener updateListener,
-            ScheduledExecutorService scheduledExecutorService, Duration cacheDeviceStateTime)
-            throws IllegalArgumentException {
+            ScheduledExecutorService scheduledExecutorService, Duration cacheDeviceStateTime,
+            PresenceProbeEngine probeEngine) throws IllegalArgumentException {
         this.updateListener = updateListener;
+        this.probeEngine = probeEngine;
         this.scheduledExecutorService = scheduledExecutorService;
         cache = new ExpiringCacheAsync<>(cacheDeviceStateTime);
     }
@@ -285,37 +281,20 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(this::performPresenceDetection).thenAccept(callback);
     }
 
-    public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
-    }
-
-    private void withDestinationAddress(Consumer<InetAddress> consumer) {
+    private CompletableFuture<@Nullable Void> withDestinationAddress(
+            Function<InetAddress, CompletableFuture<@Nullable Void>> detection) {
         InetAddress destinationAddress = destination.getValue();
         if (destinationAddress == null) {
             logger.trace("The destinationAddress for {} is null", hostname);
+            return CompletableFuture.completedFuture(null);
         } else {
-            consumer.accept(destinationAddress);
-        }
-    }
-
-    private void stopDetection() {
-        ExecutorService detectionExecutorService = this.detectionExecutorService;
-        if (detectionExecutorService != null) {
-            logger.debug("Shutting down detectionExecutorService");
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
-        }
-        ExecutorService waitForResultExecutorService = this.waitForResultExecutorService;
-        if (waitForResultExecutorService != null) {
-            logger.debug("Shutting down waitForResultExecutorService");
-            waitForResultExecutorService.shutdownNow();
-            this.waitForResultExecutorService = null;
+            return detection.apply(destinationAddress);
         }
     }
 
     /**
      * Perform a presence detection with ICMP-, ARP ping and TCP connection attempts simultaneously.
-     * A fixed thread pool will be created with as many threads as necessary to perform all tests at once.
+     * The checks are performed by the {@link PresenceProbeEngine} shared by all things of the binding.
      *
      * Please be aware of the following restrictions:
      * <ul>
@@ -351,61 +330,34 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             return CompletableFuture.completedFuture(pdv);
         }
 
-        stopDetection();
-
-        ExecutorService detectionExecutorService = getThreadsFor(detectionChecks);
-        this.detectionExecutorService = detectionExecutorService;
-        ExecutorService waitForResultExecutorService = getThreadsFor(1);
-        this.waitForResultExecutorService = waitForResultExecutorService;
-
-        List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+        List<CompletableFuture<@Nullable Void>> completableFutures = new ArrayList<>();
 
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + tcpPort);
-                performServicePing(pdv, tcpPort);
-            }, detectionExecutorService);
+            completableFutures.add(performServicePing(pdv, tcpPort));
         }
 
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
+        // ARP ping for IPv4 addresses. Use a single check for the Windows tool and
+        // one check for each network interface for other tools
         if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
-                // arp-ping.exe tool capable of handling multiple interfaces by itself
-                performArpPing(pdv, "");
-            }, detectionExecutorService);
+            // arp-ping.exe tool capable of handling multiple interfaces by itself
+            completableFutures.add(performArpPing(pdv, ""));
         } else if (interfaceNames != null) {
             for (final String interfaceName : interfaceNames) {
-                addAsyncDetection(completableFutures, () -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performArpPing(pdv, interfaceName);
-                }, detectionExecutorService);
+                completableFutures.add(performArpPing(pdv, interfaceName));
             }
         }
 
         // ICMP ping
         if (pingMethod != null) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
-                if (pingMethod == IpPingMethodEnum.JAVA_PING) {
-                    performJavaPing(pdv);
-                } else {
-                    performSystemPing(pdv);
-                }
-            }, detectionExecutorService);
+            if (pingMethod == IpPingMethodEnum.JAVA_PING) {
+                completableFutures.add(performJavaPing(pdv));
+            } else {
+                completableFutures.add(performSystemPing(pdv));
+            }
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            Thread.currentThread().setName("presenceDetectionResult_" + hostname);
-            logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
-            completableFutures.forEach(completableFuture -> {
-                try {
-                    completableFuture.join();
-                } catch (CancellationException | CompletionException e) {
-                    logger.debug("Detection future failed to complete", e);
-                }
-            });
+        logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
+        return CompletableFuture.allOf(completableFutures.toArray(CompletableFuture[]::new)).handleAsync((v, e) -> {
             logger.debug("All {} detection futures for {} have completed", completableFutures.size(), hostname);
 
             if (!pdv.isReachable()) {
@@ -416,18 +368,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             logger.debug("Sending listener final result: {}", pdv);
             updateListener.finalDetectionResult(pdv);
 
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
             detectionChecks = 0;
 
             return pdv;
-        }, waitForResultExecutorService);
-    }
-
-    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable,
-            ExecutorService executorService) {
-        completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executorService)
-                .orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS));
+        }, scheduledExecutorService);
     }
 
     /**
@@ -471,20 +415,19 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         updateListener.partialDetectionResult(pdv);
     }
 
-    protected void performServicePing(PresenceDetectionValue pdv, int tcpPort) {
+    protected CompletableFuture<@Nullable Void> performServicePing(PresenceDetectionValue pdv, int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeout);
-                if (pingResult.isSuccess()) {
-                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
-                }
-            } catch (IOException e) {
-                // This should not happen and might be a user configuration issue, we log a warning message therefore.
-                logger.warn("Could not create a socket connection", e);
-            }
-        });
+        return withDestinationAddress(destinationAddress -> probeEngine.tcpPing(destinationAddress, tcpPort, timeout)
+                .handleAsync((pingResult, e) -> {
+                    if (e != null) {
+                        // This should not happen and might be a user configuration issue, we log a warning
+                        logger.warn("Could not create a socket connection", e);
+                    } else if (pingResult != null && pingResult.isSuccess()) {
+                        updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
+                    }
+                    return null;
+                }, scheduledExecutorService));
     }
 
     /**
@@ -496,33 +439,26 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * @param interfaceName the interface name. You can request a list of interface names
      *            from {@link NetworkUtils#getInterfaceNames()} for example.
      */
-    protected void performArpPing(PresenceDetectionValue pdv, String interfaceName) {
+    protected CompletableFuture<@Nullable Void> performArpPing(PresenceDetectionValue pdv, String interfaceName) {
         logger.trace("Perform ARP ping presence detection for {} on interface: {}", hostname, interfaceName);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                if (iosDevice) {
-                    networkUtils.wakeUpIOS(destinationAddress);
-                    Thread.sleep(50);
-                }
-
-                PingResult pingResult = networkUtils.nativeArpPing(arpPingMethod, arpPingUtilPath, interfaceName,
-                        destinationAddress.getHostAddress(), timeout);
-                if (pingResult != null) {
-                    if (pingResult.isSuccess()) {
-                        updateReachable(pdv, ARP_PING, getLatency(pingResult));
-                        lastReachableNetworkInterfaceName = interfaceName;
-                    } else if (lastReachableNetworkInterfaceName.equals(interfaceName)) {
-                        logger.trace("{} is no longer reachable on network interface: {}", hostname, interfaceName);
-                        lastReachableNetworkInterfaceName = "";
+        return withDestinationAddress(destinationAddress -> probeEngine
+                .arpPing(arpPingMethod, arpPingUtilPath, interfaceName, destinationAddress, timeout, iosDevice)
+                .handleAsync((pingResult, e) -> {
+                    if (e != null) {
+                        logger.trace("Failed to execute an ARP ping for {}", hostname, e);
+                    } else if (pingResult != null) {
+                        if (pingResult.isSuccess()) {
+                            updateReachable(pdv, ARP_PING, getLatency(pingResult));
+                            lastReachableNetworkInterfaceName = interfaceName;
+                        } else if (lastReachableNetworkInterfaceName.equals(interfaceName)) {
+                            logger.trace("{} is no longer reachable on network interface: {}", hostname,
+                                    interfaceName);
+                            lastReachableNetworkInterfaceName = "";
+                        }
                     }
-                }
-            } catch (IOException e) {
-                logger.trace("Failed to execute an ARP ping for {}", hostname, e);
-            } catch (InterruptedException ignored) {
-                // This can be ignored, the thread will end anyway
-            }
-        });
+                    return null;
+                }, scheduledExecutorService));
     }
 
     /**
@@ -532,33 +468,32 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      *
      * @see InetAddress#isReachable(int)
      */
-    protected void performJavaPing(PresenceDetectionValue pdv) {
+    protected CompletableFuture<@Nullable Void> performJavaPing(PresenceDetectionValue pdv) {
         logger.trace("Perform Java ping presence detection for {}", hostname);
 
-        withDestinationAddress(destinationAddress -> {
-            PingResult pingResult = networkUtils.javaPing(timeout, destinationAddress);
-            if (pingResult.isSuccess()) {
-                updateReachable(pdv, ICMP_PING, getLatency(pingResult));
-            }
-        });
+        return performIcmpPing(pdv, IpPingMethodEnum.JAVA_PING);
     }
 
-    protected void performSystemPing(PresenceDetectionValue pdv) {
+    protected CompletableFuture<@Nullable Void> performSystemPing(PresenceDetectionValue pdv) {
         logger.trace("Perform native ping presence detection for {}", hostname);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(),
-                        timeout);
-                if (pingResult != null && pingResult.isSuccess()) {
-                    updateReachable(pdv, ICMP_PING, getLatency(pingResult));
-                }
-            } catch (IOException e) {
-                logger.trace("Failed to execute a native ping for {}", hostname, e);
-            } catch (InterruptedException e) {
-                // This can be ignored, the thread will end anyway
-            }
-        });
+        IpPingMethodEnum pingMethod = this.pingMethod;
+        if (pingMethod == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return performIcmpPing(pdv, pingMethod);
+    }
+
+    private CompletableFuture<@Nullable Void> performIcmpPing(PresenceDetectionValue pdv, IpPingMethodEnum method) {
+        return withDestinationAddress(destinationAddress -> probeEngine.icmpPing(method, destinationAddress, timeout)
+                .handleAsync((pingResult, e) -> {
+                    if (e != null) {
+                        logger.trace("Failed to execute a {} for {}", method, hostname, e);
+                    } else if (pingResult != null && pingResult.isSuccess()) {
+                        updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+                    }
+                    return null;
+                }, scheduledExecutorService));
     }
 
     private Duration getLatency(PingResult pingResult) {
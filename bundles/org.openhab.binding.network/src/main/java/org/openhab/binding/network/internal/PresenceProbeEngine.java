@@ -0,0 +1,413 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
+import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.core.common.NamedThreadFactory;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PresenceProbeEngine} performs the presence probes of all things and of the discovery of the binding.
+ * <ul>
+ * <li>TCP connection attempts are non-blocking and multiplexed on a single {@link Selector} thread.</li>
+ * <li>ICMP and ARP pings, which need the system ping tools or a blocking Java ping, run on a pool with a fixed
+ * maximum number of threads.</li>
+ * <li>A probe that is still running is joined by all things asking for the same probe of the same host, so every
+ * host is only probed once at a time.</li>
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = PresenceProbeEngine.class)
+public class PresenceProbeEngine {
+    static final int MAX_PROCESS_PROBES = 16;
+    // additional time a ping tool may take to exit after its own timeout
+    private static final Duration PROCESS_GRACE_TIME = Duration.ofSeconds(3);
+
+    private final Logger logger = LoggerFactory.getLogger(PresenceProbeEngine.class);
+    private final NetworkUtils networkUtils;
+    private final ExecutorService processProbeExecutor;
+    private final Map<ProbeKey, CompletableFuture<@Nullable PingResult>> runningProbes = new ConcurrentHashMap<>();
+    private final Queue<TcpProbe> newTcpProbes = new ConcurrentLinkedQueue<>();
+
+    private @Nullable Selector selector;
+    private volatile boolean disposed;
+
+    @Activate
+    public PresenceProbeEngine() {
+        this(new NetworkUtils(), createProcessProbeExecutor());
+    }
+
+    PresenceProbeEngine(NetworkUtils networkUtils, ExecutorService processProbeExecutor) {
+        this.networkUtils = networkUtils;
+        this.processProbeExecutor = processProbeExecutor;
+    }
+
+    private static ExecutorService createProcessProbeExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_PROCESS_PROBES, MAX_PROCESS_PROBES, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("network-probe", true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Deactivate
+    public void dispose() {
+        Selector selector;
+        synchronized (this) {
+            disposed = true;
+            selector = this.selector;
+            this.selector = null;
+        }
+        if (selector != null) {
+            try {
+                selector.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close the selector", e);
+            }
+        }
+        processProbeExecutor.shutdownNow();
+        failTcpProbes(newTcpProbes.iterator());
+        runningProbes.values().forEach(future -> future.cancel(false));
+        runningProbes.clear();
+    }
+
+    /**
+     * Tries to establish a TCP connection to a port of a host.
+     *
+     * @param address the address of the host
+     * @param port the TCP port
+     * @param timeout the time to wait for the connection
+     * @return a future completing with the {@link PingResult}, or exceptionally if the connection could not be
+     *         attempted
+     */
+    public CompletableFuture<@Nullable PingResult> tcpPing(InetAddress address, int port, Duration timeout) {
+        return probe(new ProbeKey("TCP", address, String.valueOf(port), timeout),
+                () -> startTcpProbe(address, port, timeout));
+    }
+
+    /**
+     * Sends an ICMP echo request to a host with the system ping tool or with a Java ping.
+     *
+     * @param method the ping method
+     * @param address the address of the host
+     * @param timeout the time to wait for the reply
+     * @return a future completing with the {@link PingResult}, null if the method is not supported
+     */
+    public CompletableFuture<@Nullable PingResult> icmpPing(IpPingMethodEnum method, InetAddress address,
+            Duration timeout) {
+        return probe(new ProbeKey(method.name(), address, "", timeout), () -> runProcessProbe(timeout, () -> {
+            if (method == IpPingMethodEnum.JAVA_PING) {
+                return networkUtils.javaPing(timeout, address);
+            }
+            return networkUtils.nativePing(method, address.getHostAddress(), timeout);
+        }));
+    }
+
+    /**
+     * Sends an ARP request to a host with the ARP ping tool.
+     *
+     * @param method the ARP ping tool
+     * @param arpPingUtilPath the path to the ARP ping tool
+     * @param interfaceName the network interface to send the request on
+     * @param address the IPv4 address of the host
+     * @param timeout the time to wait for the reply
+     * @param wakeUpIOS if an iOS device should be woken up before the request
+     * @return a future completing with the {@link PingResult}, null if the tool is not supported
+     */
+    public CompletableFuture<@Nullable PingResult> arpPing(ArpPingUtilEnum method, String arpPingUtilPath,
+            String interfaceName, InetAddress address, Duration timeout, boolean wakeUpIOS) {
+        ProbeKey key = new ProbeKey(method.name() + (wakeUpIOS ? "+iOS" : ""), address,
+                arpPingUtilPath + " " + interfaceName, timeout);
+        return probe(key, () -> runProcessProbe(timeout, () -> {
+            if (wakeUpIOS) {
+                networkUtils.wakeUpIOS(address);
+                Thread.sleep(50);
+            }
+            return networkUtils.nativeArpPing(method, arpPingUtilPath, interfaceName, address.getHostAddress(),
+                    timeout);
+        }));
+    }
+
+    private CompletableFuture<@Nullable PingResult> probe(ProbeKey key,
+            Supplier<CompletableFuture<@Nullable PingResult>> starter) {
+        CompletableFuture<@Nullable PingResult> future = new CompletableFuture<>();
+        CompletableFuture<@Nullable PingResult> running = runningProbes.putIfAbsent(key, future);
+        if (running != null) {
+            logger.trace("Joining running probe {}", key);
+            return running;
+        }
+        future.whenComplete((result, e) -> runningProbes.remove(key, future));
+        starter.get().whenComplete((result, e) -> {
+            if (e != null) {
+                future.completeExceptionally(e);
+            } else {
+                future.complete(result);
+            }
+        });
+        return future;
+    }
+
+    private CompletableFuture<@Nullable PingResult> runProcessProbe(Duration timeout, ProcessProbe processProbe) {
+        CompletableFuture<@Nullable PingResult> future = new CompletableFuture<>();
+        // the thread running the probe, it is interrupted when the probe times out
+        AtomicReference<@Nullable Thread> worker = new AtomicReference<>();
+        AtomicBoolean timedOut = new AtomicBoolean();
+        future.whenComplete((result, e) -> {
+            if (e instanceof TimeoutException) {
+                // interrupting the thread destroys a hanging ping process and frees the thread
+                synchronized (worker) {
+                    timedOut.set(true);
+                    Thread thread = worker.get();
+                    if (thread != null) {
+                        thread.interrupt();
+                    }
+                }
+            }
+        });
+        try {
+            processProbeExecutor.execute(() -> {
+                worker.set(Thread.currentThread());
+                // the timeout starts when the probe leaves the queue
+                future.orTimeout(timeout.plus(PROCESS_GRACE_TIME).toMillis(), TimeUnit.MILLISECONDS);
+                try {
+                    future.complete(processProbe.run());
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                } catch (InterruptedException e) {
+                    future.cancel(false);
+                    if (!timedOut.get()) {
+                        Thread.currentThread().interrupt();
+                    }
+                } finally {
+                    synchronized (worker) {
+                        worker.set(null);
+                        if (timedOut.get()) {
+                            // don't pass the interrupt of a timed out probe on to the next probe of this thread
+                            Thread.interrupted();
+                        }
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private CompletableFuture<@Nullable PingResult> startTcpProbe(InetAddress address, int port, Duration timeout) {
+        CompletableFuture<@Nullable PingResult> future = new CompletableFuture<>();
+        long startNanos = System.nanoTime();
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            TcpProbe probe = new TcpProbe(channel, future, startNanos, startNanos + timeout.toNanos());
+            if (channel.connect(new InetSocketAddress(address, port))) {
+                probe.finish(true);
+            } else {
+                newTcpProbes.add(probe);
+                getSelector().wakeup();
+            }
+        } catch (ConnectException | NoRouteToHostException e) {
+            logger.trace("Could not connect to {}:{}", address, port, e);
+            closeQuietly(channel);
+            future.complete(new PingResult(false, Duration.ofNanos(System.nanoTime() - startNanos)));
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(channel);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private synchronized Selector getSelector() throws IOException {
+        if (disposed) {
+            throw new IOException("The probe engine has been disposed");
+        }
+        Selector selector = this.selector;
+        if (selector == null) {
+            Selector newSelector = Selector.open();
+            Thread thread = new NamedThreadFactory("network-tcpprobe", true).newThread(() -> runSelector(newSelector));
+            this.selector = newSelector;
+            thread.start();
+            selector = newSelector;
+        }
+        return selector;
+    }
+
+    private void runSelector(Selector selector) {
+        List<TcpProbe> pendingProbes = new ArrayList<>();
+        try {
+            while (selector.isOpen()) {
+                TcpProbe newProbe;
+                while ((newProbe = newTcpProbes.poll()) != null) {
+                    try {
+                        newProbe.channel.register(selector, SelectionKey.OP_CONNECT, newProbe);
+                        pendingProbes.add(newProbe);
+                    } catch (IOException e) {
+                        newProbe.fail(e);
+                    }
+                }
+
+                long now = System.nanoTime();
+                if (pendingProbes.isEmpty()) {
+                    selector.select();
+                } else {
+                    long nextDeadline = pendingProbes.stream().mapToLong(probe -> probe.deadlineNanos).min()
+                            .orElse(now);
+                    if (nextDeadline - now > 0) {
+                        selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextDeadline - now)));
+                    } else {
+                        selector.selectNow();
+                    }
+                }
+
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    if (key.attachment() instanceof TcpProbe probe) {
+                        probe.finishConnect();
+                        pendingProbes.remove(probe);
+                    }
+                }
+
+                long expiry = System.nanoTime();
+                pendingProbes.removeIf(probe -> {
+                    if (probe.deadlineNanos - expiry <= 0) {
+                        probe.finish(false);
+                        return true;
+                    }
+                    return false;
+                });
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (!disposed) {
+                logger.debug("The TCP probe selector stopped", e);
+            }
+        } finally {
+            pendingProbes.forEach(probe -> probe.fail(new IOException("The TCP probe selector stopped")));
+            synchronized (this) {
+                if (this.selector == selector) {
+                    this.selector = null;
+                }
+            }
+            // probes added while the selector was stopping would wait forever
+            failTcpProbes(newTcpProbes.iterator());
+        }
+    }
+
+    private void failTcpProbes(Iterator<TcpProbe> probes) {
+        while (probes.hasNext()) {
+            probes.next().fail(new IOException("The TCP probe selector stopped"));
+            probes.remove();
+        }
+    }
+
+    private void closeQuietly(@Nullable SocketChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.trace("Failed to close the channel", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ProcessProbe {
+        @Nullable
+        PingResult run() throws IOException, InterruptedException;
+    }
+
+    private record ProbeKey(String method, InetAddress address, String target, Duration timeout) {
+
+        @Override
+        public String toString() {
+            return method + " " + address.getHostAddress() + (target.isEmpty() ? "" : " " + target);
+        }
+    }
+
+    private class TcpProbe {
+        private final SocketChannel channel;
+        private final CompletableFuture<@Nullable PingResult> future;
+        private final long startNanos;
+        private final long deadlineNanos;
+
+        TcpProbe(SocketChannel channel, CompletableFuture<@Nullable PingResult> future, long startNanos,
+                long deadlineNanos) {
+            this.channel = channel;
+            this.future = future;
+            this.startNanos = startNanos;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        void finishConnect() {
+            try {
+                finish(channel.finishConnect());
+            } catch (ConnectException | NoRouteToHostException e) {
+                logger.trace("Could not connect to {}", channel, e);
+                finish(false);
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        void finish(boolean success) {
+            closeQuietly(channel);
+            future.complete(new PingResult(success, Duration.ofNanos(System.nanoTime() - startNanos)));
+        }
+
+        void fail(Throwable e) {
+            closeQuietly(channel);
+            future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.openhab.binding.network.internal.PresenceDetectionType.*;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
+import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SubnetScanner} probes a range of addresses with the {@link PresenceProbeEngine}.
+ * <p>
+ * The probes of all addresses are sent in a pipeline: a new probe is started as soon as the budget of probes per
+ * second allows it, without waiting for the probes of other addresses. Every successful probe is reported as a
+ * partial result of its address, and a final result is reported when all probes of an address completed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SubnetScanner {
+    static final Duration TICK = Duration.ofMillis(100);
+    // number of progress reports during a scan
+    private static final int PROGRESS_STEPS = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(SubnetScanner.class);
+    private final PresenceProbeEngine probeEngine;
+    private final ScheduledExecutorService scheduler;
+    private final PresenceDetectionListener resultListener;
+    private final ScanProgressListener progressListener;
+
+    private final Queue<Probe> waitingProbes = new ArrayDeque<>();
+    private @Nullable ScheduledFuture<?> sendJob;
+    // increased with every scan, so results of a stopped scan are dropped
+    private int scanId;
+    private double probesPerTick;
+    private double budget;
+    private int totalAddresses;
+    private int scannedAddresses;
+
+    public SubnetScanner(PresenceProbeEngine probeEngine, ScheduledExecutorService scheduler,
+            PresenceDetectionListener resultListener, ScanProgressListener progressListener) {
+        this.probeEngine = probeEngine;
+        this.scheduler = scheduler;
+        this.resultListener = resultListener;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Starts a scan, a running scan is stopped.
+     *
+     * @param hostAddresses the addresses to scan
+     * @param settings the probes to send to each address
+     */
+    public synchronized void start(Collection<String> hostAddresses, ScanSettings settings) {
+        stop();
+        int scanId = this.scanId;
+        for (String hostAddress : hostAddresses) {
+            InetAddress address;
+            try {
+                address = InetAddress.getByName(hostAddress);
+            } catch (UnknownHostException e) {
+                logger.debug("Skipping invalid address {}", hostAddress);
+                continue;
+            }
+            queueProbes(new ScannedAddress(scanId, hostAddress, address), settings);
+        }
+
+        totalAddresses = (int) waitingProbes.stream().map(probe -> probe.scannedAddress).distinct().count();
+        scannedAddresses = 0;
+        probesPerTick = Math.max(1, settings.probesPerSecond()) * TICK.toMillis() / 1000.0;
+        budget = 0;
+        logger.debug("Scanning {} addresses with {} probes at {} probes per second", totalAddresses,
+                waitingProbes.size(), settings.probesPerSecond());
+        if (waitingProbes.isEmpty()) {
+            scheduler.execute(() -> progressListener.scanProgress(0, 0));
+            return;
+        }
+        sendJob = scheduler.scheduleWithFixedDelay(this::sendProbes, 0, TICK.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the running scan. Probes that were already sent are not reported anymore.
+     */
+    public synchronized void stop() {
+        ScheduledFuture<?> sendJob = this.sendJob;
+        if (sendJob != null) {
+            sendJob.cancel(false);
+            this.sendJob = null;
+        }
+        waitingProbes.clear();
+        scanId++;
+    }
+
+    private void queueProbes(ScannedAddress scannedAddress, ScanSettings settings) {
+        InetAddress address = scannedAddress.address;
+        Duration timeout = settings.timeout();
+        ArpPingUtilEnum arpPingMethod = settings.arpPingMethod();
+        if (arpPingMethod.canProceed && address instanceof Inet4Address) {
+            if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
+                // arp-ping.exe tool capable of handling multiple interfaces by itself
+                addProbe(scannedAddress, ARP_PING, -1, () -> probeEngine.arpPing(arpPingMethod,
+                        settings.arpPingToolPath(), "", address, timeout, true));
+            } else {
+                for (String interfaceName : settings.interfaceNames()) {
+                    addProbe(scannedAddress, ARP_PING, -1, () -> probeEngine.arpPing(arpPingMethod,
+                            settings.arpPingToolPath(), interfaceName, address, timeout, true));
+                }
+            }
+        }
+        IpPingMethodEnum pingMethod = settings.pingMethod();
+        if (pingMethod != null) {
+            addProbe(scannedAddress, ICMP_PING, -1, () -> probeEngine.icmpPing(pingMethod, address, timeout));
+        }
+        for (int tcpPort : settings.tcpPorts()) {
+            addProbe(scannedAddress, TCP_CONNECTION, tcpPort, () -> probeEngine.tcpPing(address, tcpPort, timeout));
+        }
+    }
+
+    private void addProbe(ScannedAddress scannedAddress, PresenceDetectionType type, int tcpPort,
+            Supplier<CompletableFuture<@Nullable PingResult>> starter) {
+        waitingProbes.add(new Probe(scannedAddress, type, tcpPort, starter));
+        scannedAddress.remainingProbes++;
+    }
+
+    private synchronized void sendProbes() {
+        budget = Math.min(budget + probesPerTick, Math.max(1, probesPerTick));
+        while (budget >= 1) {
+            Probe probe = waitingProbes.poll();
+            if (probe == null) {
+                break;
+            }
+            budget--;
+            probe.starter.get().whenComplete((result, e) -> probeCompleted(probe, result, e));
+        }
+        ScheduledFuture<?> sendJob = this.sendJob;
+        if (waitingProbes.isEmpty() && sendJob != null) {
+            sendJob.cancel(false);
+            this.sendJob = null;
+        }
+    }
+
+    private void probeCompleted(Probe probe, @Nullable PingResult result, @Nullable Throwable e) {
+        ScannedAddress scannedAddress = probe.scannedAddress;
+        PresenceDetectionValue pdv = scannedAddress.value;
+        boolean partial = false;
+        boolean complete;
+        int progress = -1;
+        int total = 0;
+        synchronized (this) {
+            if (scannedAddress.scanId != scanId) {
+                return;
+            }
+            if (e != null) {
+                logger.trace("{} probe of {} failed", probe.type, scannedAddress.hostAddress, e);
+            } else if (result != null && result.isSuccess()) {
+                pdv.addReachableDetectionType(probe.type);
+                pdv.updateLatency(result.getExecutionTime());
+                if (probe.tcpPort >= 0) {
+                    pdv.addReachableTcpPort(probe.tcpPort);
+                }
+                partial = true;
+            }
+            complete = --scannedAddress.remainingProbes == 0;
+            if (complete) {
+                scannedAddresses++;
+                int step = Math.max(1, totalAddresses / PROGRESS_STEPS);
+                if (scannedAddresses % step == 0 || scannedAddresses == totalAddresses) {
+                    progress = scannedAddresses;
+                    total = totalAddresses;
+                }
+            }
+        }
+        if (!partial && !complete) {
+            return;
+        }
+
+        // the listeners are called without holding the lock and outside the thread of the probe engine, they may stop
+        // the scan and call into synchronized code of the discovery service
+        boolean reportPartial = partial;
+        int scanned = progress;
+        int scanTotal = total;
+        scheduler.execute(() -> {
+            if (reportPartial) {
+                resultListener.partialDetectionResult(pdv);
+            }
+            if (complete) {
+                resultListener.finalDetectionResult(pdv);
+            }
+            if (scanned >= 0) {
+                progressListener.scanProgress(scanned, scanTotal);
+            }
+        });
+    }
+
+    /**
+     * The probes of a scan.
+     *
+     * @param tcpPorts the TCP ports to connect to
+     * @param pingMethod the ICMP ping method, null to send no ICMP pings
+     * @param arpPingMethod the ARP ping tool
+     * @param arpPingToolPath the path of the ARP ping tool
+     * @param interfaceNames the network interfaces to send ARP pings on
+     * @param timeout the timeout of a single probe
+     * @param probesPerSecond the maximum number of probes started per second
+     */
+    public record ScanSettings(Set<Integer> tcpPorts, @Nullable IpPingMethodEnum pingMethod,
+            ArpPingUtilEnum arpPingMethod, String arpPingToolPath, Set<String> interfaceNames, Duration timeout,
+            int probesPerSecond) {
+    }
+
+    /**
+     * Receives the progress of a scan.
+     */
+    @FunctionalInterface
+    public interface ScanProgressListener {
+        /**
+         * Called a few times during a scan and when the scan is complete.
+         *
+         * @param scannedAddresses the number of addresses for which all probes completed
+         * @param totalAddresses the number of addresses of the scan
+         */
+        void scanProgress(int scannedAddresses, int totalAddresses);
+    }
+
+    private static class ScannedAddress {
+        private final int scanId;
+        private final String hostAddress;
+        private final InetAddress address;
+        private final PresenceDetectionValue value;
+        private int remainingProbes;
+
+        ScannedAddress(int scanId, String hostAddress, InetAddress address) {
+            this.scanId = scanId;
+            this.hostAddress = hostAddress;
+            this.address = address;
+            this.value = new PresenceDetectionValue(hostAddress, PresenceDetectionValue.UNREACHABLE);
+        }
+    }
+
+    private record Probe(ScannedAddress scannedAddress, PresenceDetectionType type, int tcpPort,
+            Supplier<CompletableFuture<@Nullable PingResult>> starter) {
+    }
+}
@@ -334,7 +334,7 @@ public class NetworkUtils {
         // Exception: return code is also 0 in Windows for all requests on the local subnet.
         // see https://superuser.com/questions/403905/ping-from-windows-7-get-no-reply-but-sets-errorlevel-to-0
 
-        int result = proc.waitFor();
+        int result = waitFor(proc);
         if (result != 0) {
             return new PingResult(false, Duration.between(execStartTime, Instant.now()));
         }
@@ -414,7 +414,20 @@ public class NetworkUtils {
 
         // The return code is 0 for a successful ping. 1 if device didn't respond and 2 if there is another error like
         // network interface not ready.
-        return new PingResult(proc.waitFor() == 0, Duration.between(execStartTime, Instant.now()));
+        return new PingResult(waitFor(proc) == 0, Duration.between(execStartTime, Instant.now()));
+    }
+
+    /**
+     * Waits for a ping tool to exit. If the waiting thread is interrupted, e.g. because the probe timed out, the
+     * process is destroyed instead of being left running.
+     */
+    private int waitFor(Process proc) throws InterruptedException {
+        try {
+            return proc.waitFor();
+        } catch (InterruptedException e) {
+            proc.destroyForcibly();
+            throw e;
+        }
     }
 
     /**
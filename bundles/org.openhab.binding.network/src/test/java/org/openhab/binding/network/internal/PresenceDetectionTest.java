@@ -21,11 +21,12 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,11 +53,14 @@ public class PresenceDetectionTest {
     private @NonNullByDefault({}) PresenceDetection subject;
 
     private @Mock @NonNullByDefault({}) Consumer<PresenceDetectionValue> callback;
-    private @Mock @NonNullByDefault({}) ExecutorService detectionExecutorService;
-    private @Mock @NonNullByDefault({}) ExecutorService waitForResultExecutorService;
     private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduledExecutorService;
     private @Mock @NonNullByDefault({}) PresenceDetectionListener listener;
     private @Mock @NonNullByDefault({}) NetworkUtils networkUtils;
+    private @Mock @NonNullByDefault({}) PresenceProbeEngine probeEngine;
+
+    private final CompletableFuture<@Nullable PingResult> tcpPing = new CompletableFuture<>();
+    private final CompletableFuture<@Nullable PingResult> arpPing = new CompletableFuture<>();
+    private final CompletableFuture<@Nullable PingResult> icmpPing = new CompletableFuture<>();
 
     @BeforeEach
     public void setUp() {
@@ -65,7 +69,19 @@ public class PresenceDetectionTest {
         doReturn(ArpPingUtilEnum.IPUTILS_ARPING).when(networkUtils).determineNativeArpPingMethod(anyString());
         doReturn(IpPingMethodEnum.WINDOWS_PING).when(networkUtils).determinePingMethod();
 
-        subject = spy(new PresenceDetection(listener, scheduledExecutorService, Duration.ofSeconds(2)));
+        // The results of the probes are processed on the scheduler
+        doAnswer(i -> {
+            ((Runnable) i.getArgument(0)).run();
+            return null;
+        }).when(scheduledExecutorService).execute(any());
+
+        // The probes complete when the test completes their futures
+        when(probeEngine.tcpPing(any(), eq(1010), any())).thenReturn(tcpPing);
+        when(probeEngine.arpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), eq("TESTinterface"), any(), any(),
+                eq(true))).thenReturn(arpPing);
+        when(probeEngine.icmpPing(eq(IpPingMethodEnum.WINDOWS_PING), any(), any())).thenReturn(icmpPing);
+
+        subject = spy(new PresenceDetection(listener, scheduledExecutorService, Duration.ofSeconds(2), probeEngine));
         subject.networkUtils = networkUtils;
 
         // Set a useful configuration. The default presenceDetection is a no-op.
@@ -80,61 +96,42 @@ public class PresenceDetectionTest {
         assertThat(subject.pingMethod, is(IpPingMethodEnum.WINDOWS_PING));
     }
 
-    // Depending on the amount of test methods an according amount of threads is spawned.
-    // We will check if they spawn and return in time.
+    // All checks are handed to the probe engine at once, the result is available when all of them completed.
     @Test
-    public void threadCountTest() {
-        assertNull(subject.detectionExecutorService);
-
-        doNothing().when(subject).performArpPing(any(), any());
-        doNothing().when(subject).performJavaPing(any());
-        doNothing().when(subject).performSystemPing(any());
-        doNothing().when(subject).performServicePing(any(), anyInt());
-
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
-
-        subject.getValue(callback -> {
-        });
+    public void detectionChecksTest() {
+        subject.getValue(callback);
 
-        // Thread count: ARP + ICMP + 1*TCP
+        // Check count: ARP + ICMP + 1*TCP
         assertThat(subject.detectionChecks, is(3));
-        assertNotNull(subject.detectionExecutorService);
+        verify(probeEngine).tcpPing(any(), eq(1010), eq(Duration.ofMillis(300)));
+        verify(probeEngine).arpPing(any(), eq("arping"), eq("TESTinterface"), any(), eq(Duration.ofMillis(300)),
+                eq(true));
+        verify(probeEngine).icmpPing(eq(IpPingMethodEnum.WINDOWS_PING), any(), eq(Duration.ofMillis(300)));
 
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
+        tcpPing.complete(new PingResult(false, Duration.ofMillis(300)));
+        arpPing.complete(null);
+        verify(callback, times(0)).accept(any());
 
+        icmpPing.completeExceptionally(new IOException("ping not found"));
         assertThat(subject.detectionChecks, is(0));
-        assertNull(subject.detectionExecutorService);
+
+        ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(callback, times(1)).accept(pdvCapture.capture());
+        assertFalse(pdvCapture.getValue().isReachable());
+        verify(listener, times(0)).partialDetectionResult(any());
     }
 
     @Test
-    public void partialAndFinalCallbackTests() throws InterruptedException, IOException {
-        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
-        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
-        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
-                anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
-
+    public void partialAndFinalCallbackTests() {
         subject.performPresenceDetection();
 
         assertThat(subject.detectionChecks, is(3));
 
-        // Perform the different presence detection threads now
-        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
-        for (Runnable r : capture.getAllValues()) {
-            r.run();
-        }
-
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
+        // Let the probes succeed now
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        tcpPing.complete(pingResult);
+        arpPing.complete(pingResult);
+        icmpPing.complete(pingResult);
 
         assertThat(subject.detectionChecks, is(0));
 
@@ -151,36 +148,20 @@ public class PresenceDetectionTest {
     }
 
     @Test
-    public void cacheTest() throws InterruptedException, IOException {
-        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
-        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
-        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
-                anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
-
+    public void cacheTest() {
         // We expect no valid value
         assertTrue(subject.cache.isExpired());
         // Get value will issue a PresenceDetection internally.
         subject.getValue(callback);
         verify(subject).performPresenceDetection();
-        assertNotNull(subject.detectionExecutorService);
         // There should be no straight callback yet
         verify(callback, times(0)).accept(any());
 
-        // Perform the different presence detection threads now
-        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
-        for (Runnable r : capture.getAllValues()) {
-            r.run();
-        }
-
-        // "Wait" for the presence detection to finish
-        capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(capture.capture());
-        capture.getValue().run();
+        // Let the probes succeed now
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        tcpPing.complete(pingResult);
+        arpPing.complete(pingResult);
+        icmpPing.complete(pingResult);
 
         // Although there are multiple partial results and a final result,
         // the getValue() consumers get the fastest response possible, and only once.
@@ -192,6 +173,7 @@ public class PresenceDetectionTest {
 
         // Invalidate value, we should not get a new callback immediately again
         subject.cache.invalidateValue();
+        when(probeEngine.tcpPing(any(), eq(1010), any())).thenReturn(new CompletableFuture<>());
         subject.getValue(callback);
         verify(callback, times(2)).accept(any());
     }
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
+import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PingResult;
+
+/**
+ * Tests cases for {@link PresenceProbeEngine}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class PresenceProbeEngineTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    private @Mock @NonNullByDefault({}) NetworkUtils networkUtils;
+    private @Mock @NonNullByDefault({}) ExecutorService processProbeExecutor;
+
+    private @NonNullByDefault({}) PresenceProbeEngine engine;
+    private final InetAddress host = InetAddress.getLoopbackAddress();
+    private int startedProbes;
+
+    @BeforeEach
+    public void setUp() throws IOException, InterruptedException {
+        engine = new PresenceProbeEngine(networkUtils, processProbeExecutor);
+        when(networkUtils.nativePing(any(), anyString(), any())).thenReturn(new PingResult(true, Duration.ofMillis(5)));
+        when(networkUtils.nativeArpPing(any(), anyString(), anyString(), anyString(), any()))
+                .thenReturn(new PingResult(false, TIMEOUT));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        engine.dispose();
+    }
+
+    @Test
+    public void testRunningProbeIsShared() throws IOException, InterruptedException {
+        CompletableFuture<@Nullable PingResult> first = engine.icmpPing(IpPingMethodEnum.IPUTILS_LINUX_PING, host,
+                TIMEOUT);
+        CompletableFuture<@Nullable PingResult> second = engine.icmpPing(IpPingMethodEnum.IPUTILS_LINUX_PING, host,
+                TIMEOUT);
+        assertSame(first, second);
+
+        runProcessProbes(1);
+        verify(networkUtils, times(1)).nativePing(eq(IpPingMethodEnum.IPUTILS_LINUX_PING),
+                eq(host.getHostAddress()), eq(TIMEOUT));
+        assertTrue(Objects.requireNonNull(first.getNow(null)).isSuccess());
+
+        // the probe is sent again once it completed
+        engine.icmpPing(IpPingMethodEnum.IPUTILS_LINUX_PING, host, TIMEOUT);
+        runProcessProbes(2);
+        verify(networkUtils, times(2)).nativePing(any(), anyString(), any());
+    }
+
+    @Test
+    public void testDifferentProbesAreNotShared() throws IOException, InterruptedException {
+        CompletableFuture<@Nullable PingResult> eth0 = engine.arpPing(ArpPingUtilEnum.IPUTILS_ARPING, "arping", "eth0",
+                host, TIMEOUT, false);
+        CompletableFuture<@Nullable PingResult> wlan0 = engine.arpPing(ArpPingUtilEnum.IPUTILS_ARPING, "arping",
+                "wlan0", host, TIMEOUT, false);
+        CompletableFuture<@Nullable PingResult> icmp = engine.icmpPing(IpPingMethodEnum.IPUTILS_LINUX_PING, host,
+                TIMEOUT);
+        assertNotSame(eth0, wlan0);
+
+        runProcessProbes(3);
+        verify(networkUtils).nativeArpPing(any(), anyString(), eq("eth0"), anyString(), any());
+        verify(networkUtils).nativeArpPing(any(), anyString(), eq("wlan0"), anyString(), any());
+        verify(networkUtils, never()).wakeUpIOS(any());
+        assertFalse(Objects.requireNonNull(eth0.getNow(null)).isSuccess());
+        assertTrue(Objects.requireNonNull(icmp.getNow(null)).isSuccess());
+    }
+
+    @Test
+    public void testFailedProbeCompletesExceptionally() throws IOException, InterruptedException {
+        when(networkUtils.nativePing(any(), anyString(), any())).thenThrow(new IOException("ping not found"));
+        CompletableFuture<@Nullable PingResult> future = engine.icmpPing(IpPingMethodEnum.IPUTILS_LINUX_PING, host,
+                TIMEOUT);
+
+        runProcessProbes(1);
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testTcpPing() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, host)) {
+            port = serverSocket.getLocalPort();
+            PingResult result = engine.tcpPing(host, port, TIMEOUT).get(5, TimeUnit.SECONDS);
+            assertTrue(Objects.requireNonNull(result).isSuccess());
+        }
+
+        // nobody is listening anymore, the connection is refused
+        PingResult result = engine.tcpPing(host, port, TIMEOUT).get(5, TimeUnit.SECONDS);
+        assertFalse(Objects.requireNonNull(result).isSuccess());
+        verifyNoInteractions(processProbeExecutor);
+    }
+
+    // runs the process probes handed to the executor since the last call
+    private void runProcessProbes(int expectedProbes) {
+        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
+        verify(processProbeExecutor, times(expectedProbes)).execute(capture.capture());
+        capture.getAllValues().subList(startedProbes, expectedProbes).forEach(Runnable::run);
+        startedProbes = expectedProbes;
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.network.internal.SubnetScanner.ScanProgressListener;
+import org.openhab.binding.network.internal.SubnetScanner.ScanSettings;
+import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
+import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PingResult;
+
+/**
+ * Tests cases for {@link SubnetScanner}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class SubnetScannerTest {
+    private static final Duration TIMEOUT = Duration.ofMillis(500);
+    private static final List<String> ADDRESSES = List.of("192.168.1.1", "192.168.1.2", "192.168.1.3");
+
+    private @Mock @NonNullByDefault({}) PresenceProbeEngine probeEngine;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> sendJob;
+    private @Mock @NonNullByDefault({}) PresenceDetectionListener resultListener;
+    private @Mock @NonNullByDefault({}) ScanProgressListener progressListener;
+
+    private @NonNullByDefault({}) SubnetScanner scanner;
+    private @NonNullByDefault({}) Runnable sendProbes;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(sendJob).when(scheduler).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        // the listeners are notified through the scheduler
+        doAnswer(i -> {
+            ((Runnable) i.getArgument(0)).run();
+            return null;
+        }).when(scheduler).execute(any());
+        // the devices do not answer pings, only 192.168.1.2 accepts connections
+        when(probeEngine.icmpPing(any(), any(), any()))
+                .thenAnswer(i -> CompletableFuture.completedFuture(new PingResult(false, TIMEOUT)));
+        when(probeEngine.tcpPing(any(), anyInt(), any())).thenAnswer(i -> {
+            InetAddress address = i.getArgument(0);
+            boolean success = "192.168.1.2".equals(address.getHostAddress());
+            return CompletableFuture.<@Nullable PingResult> completedFuture(
+                    new PingResult(success, Duration.ofMillis(success ? 3 : 500)));
+        });
+        scanner = new SubnetScanner(probeEngine, scheduler, resultListener, progressListener);
+    }
+
+    private void startScan(int probesPerSecond) {
+        scanner.start(ADDRESSES, new ScanSettings(Set.of(80), IpPingMethodEnum.IPUTILS_LINUX_PING,
+                ArpPingUtilEnum.DISABLED, "arping", Set.of("eth0"), TIMEOUT, probesPerSecond));
+        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).scheduleWithFixedDelay(capture.capture(), eq(0L), eq(SubnetScanner.TICK.toMillis()),
+                eq(TimeUnit.MILLISECONDS));
+        sendProbes = capture.getValue();
+    }
+
+    @Test
+    public void testProbesArePaced() {
+        // one probe per tick of 100 ms
+        startScan(10);
+        verifyNoInteractions(probeEngine);
+
+        sendProbes.run();
+        verify(probeEngine, times(1)).icmpPing(any(), any(), any());
+        verify(probeEngine, never()).tcpPing(any(), anyInt(), any());
+
+        for (int i = 0; i < 5; i++) {
+            sendProbes.run();
+        }
+        verify(probeEngine, times(3)).icmpPing(any(), any(), any());
+        verify(probeEngine, times(3)).tcpPing(any(), anyInt(), any());
+        verify(sendJob).cancel(false);
+    }
+
+    @Test
+    public void testBudgetIsSpreadOverTicks() {
+        // 20 probes per second allow two probes per tick
+        startScan(20);
+        sendProbes.run();
+        verify(probeEngine, times(1)).icmpPing(any(), any(), any());
+        verify(probeEngine, times(1)).tcpPing(any(), anyInt(), any());
+
+        // 5 probes per second allow one probe every second tick
+        scanner.stop();
+        clearInvocations(probeEngine, scheduler);
+        startScan(5);
+        sendProbes.run();
+        verifyNoInteractions(probeEngine);
+        sendProbes.run();
+        verify(probeEngine, times(1)).icmpPing(any(), any(), any());
+    }
+
+    @Test
+    public void testResultsAreReportedWhenTheyArrive() {
+        startScan(100);
+        sendProbes.run();
+
+        ArgumentCaptor<PresenceDetectionValue> partial = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(resultListener, times(1)).partialDetectionResult(partial.capture());
+        assertThat(partial.getValue().getHostAddress(), is("192.168.1.2"));
+        assertThat(partial.getValue().getReachableTcpPorts(), is(List.of(80)));
+        verify(resultListener, times(3)).finalDetectionResult(any());
+        verify(progressListener).scanProgress(3, 3);
+    }
+
+    @Test
+    public void testStoppedScanIsNotReported() {
+        CompletableFuture<@Nullable PingResult> pendingPing = new CompletableFuture<>();
+        when(probeEngine.icmpPing(any(), any(), any())).thenReturn(pendingPing);
+        startScan(100);
+        sendProbes.run();
+
+        scanner.stop();
+        verify(sendJob).cancel(false);
+        pendingPing.complete(new PingResult(true, Duration.ofMillis(1)));
+        verify(resultListener, never()).partialDetectionResult(argThat(value -> value.isPingReachable()));
+        verify(progressListener, never()).scanProgress(anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.snmp4j.PDU;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * The {@link SnmpReadRequestBuilder} distributes the polled OIDs of a target over as few requests as the maximum
+ * message size of the agent allows.
+ * <p>
+ * Consecutive instances of a table column (e.g. the counters of all ports of a switch) are requested with a single
+ * GETBULK request (v2c/v3 only), all other OIDs are packed into GET requests. The size of a response can only be
+ * estimated, agents answering with a {@code tooBig} error are handled by splitting the request with
+ * {@link #split(PDU, List)}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnmpReadRequestBuilder {
+    // minimum number of consecutive column instances that are requested with GETBULK
+    static final int MIN_BULK_RUN = 4;
+    // estimated encoded size of a value in a response, enough for counters and short strings
+    static final int VALUE_SIZE_ESTIMATE = 24;
+    // encoded size of a response without variable bindings (message header, community/USM parameters, PDU header)
+    private static final int MESSAGE_OVERHEAD_V1_V2C = 64;
+    private static final int MESSAGE_OVERHEAD_V3 = 192;
+    // sequence header of a variable binding
+    private static final int VARIABLE_BINDING_OVERHEAD = 4;
+
+    private final Supplier<PDU> pduFactory;
+    private final boolean bulkSupported;
+    private final int variableBindingSpace;
+
+    /**
+     * Create a new request builder
+     *
+     * @param pduFactory creates an empty PDU for the protocol version of the target
+     * @param version the SNMP version of the target
+     * @param maxMessageSize the maximum size of a message the agent can send
+     */
+    public SnmpReadRequestBuilder(Supplier<PDU> pduFactory, int version, int maxMessageSize) {
+        this.pduFactory = pduFactory;
+        this.bulkSupported = version != SnmpConstants.version1;
+        this.variableBindingSpace = maxMessageSize
+                - (version == SnmpConstants.version3 ? MESSAGE_OVERHEAD_V3 : MESSAGE_OVERHEAD_V1_V2C);
+    }
+
+    /**
+     * Create the requests for reading a set of OIDs
+     *
+     * @param oids the OIDs that should be read
+     * @param allowBulk if GETBULK requests may be used for table columns
+     * @return the requests, each of them fits into the maximum message size
+     */
+    public List<ReadRequest> build(Collection<OID> oids, boolean allowBulk) {
+        List<OID> sortedOids = oids.stream().distinct().sorted().toList();
+        List<ReadRequest> requests = new ArrayList<>();
+        List<OID> getOids = new ArrayList<>();
+
+        int start = 0;
+        while (start < sortedOids.size()) {
+            int end = start + 1;
+            if (allowBulk && bulkSupported) {
+                while (end < sortedOids.size() && isNextInstance(sortedOids.get(end - 1), sortedOids.get(end))) {
+                    end++;
+                }
+            }
+            List<OID> run = sortedOids.subList(start, end);
+            if (run.size() >= MIN_BULK_RUN) {
+                chunk(run).forEach(bulkOids -> requests.add(createBulkRequest(bulkOids)));
+            } else {
+                getOids.addAll(run);
+            }
+            start = end;
+        }
+        chunk(getOids).forEach(chunkOids -> requests.add(createGetRequest(chunkOids)));
+
+        return requests;
+    }
+
+    /**
+     * Split a request that was answered with a {@code tooBig} error
+     *
+     * @param request the request
+     * @param bulkOids the OIDs requested by a GETBULK request, ignored for GET requests
+     * @return two requests covering the OIDs of the original request or an empty list if it can't be split
+     */
+    public List<ReadRequest> split(PDU request, List<OID> bulkOids) {
+        boolean bulk = request.getType() == PDU.GETBULK;
+        List<OID> oids = bulk ? bulkOids
+                : request.getVariableBindings().stream().map(VariableBinding::getOid).toList();
+        if (oids.size() < 2) {
+            return List.of();
+        }
+        int half = oids.size() / 2;
+        List<OID> first = oids.subList(0, half);
+        List<OID> second = oids.subList(half, oids.size());
+        return bulk ? List.of(createBulkRequest(first), createBulkRequest(second))
+                : List.of(createGetRequest(first), createGetRequest(second));
+    }
+
+    private List<List<OID>> chunk(List<OID> oids) {
+        List<List<OID>> chunks = new ArrayList<>();
+        List<OID> chunk = new ArrayList<>();
+        int usedSpace = 0;
+        for (OID oid : oids) {
+            int size = oid.getBERLength() + VALUE_SIZE_ESTIMATE + VARIABLE_BINDING_OVERHEAD;
+            if (!chunk.isEmpty() && usedSpace + size > variableBindingSpace) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                usedSpace = 0;
+            }
+            chunk.add(oid);
+            usedSpace += size;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private ReadRequest createGetRequest(List<OID> oids) {
+        PDU pdu = pduFactory.get();
+        pdu.setType(PDU.GET);
+        oids.forEach(oid -> pdu.add(new VariableBinding(oid)));
+        return new ReadRequest(pdu, List.copyOf(oids));
+    }
+
+    private ReadRequest createBulkRequest(List<OID> oids) {
+        // GETBULK returns the successors of the given OID, so start with the predecessor of the first instance
+        OID first = oids.get(0);
+        long firstIndex = first.lastUnsigned();
+        OID startOid = new OID(first).trim(1);
+        if (firstIndex > 0) {
+            startOid.append((int) (firstIndex - 1));
+        }
+
+        PDU pdu = pduFactory.get();
+        pdu.setType(PDU.GETBULK);
+        pdu.setNonRepeaters(0);
+        pdu.setMaxRepetitions(oids.size());
+        pdu.add(new VariableBinding(startOid));
+        return new ReadRequest(pdu, List.copyOf(oids));
+    }
+
+    private static boolean isNextInstance(OID previous, OID next) {
+        int size = previous.size();
+        return size > 1 && next.size() == size && previous.leftMostCompare(size - 1, next) == 0
+                && next.lastUnsigned() == previous.lastUnsigned() + 1;
+    }
+
+    /**
+     * A read request
+     *
+     * @param pdu the PDU to send
+     * @param oids the OIDs of the channels that are read by this request
+     */
+    public record ReadRequest(PDU pdu, List<OID> oids) {
+    }
+}
@@ -17,6 +17,9 @@ import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
@@ -29,6 +32,7 @@ import javax.measure.Unit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.snmp.internal.SnmpReadRequestBuilder.ReadRequest;
 import org.openhab.binding.snmp.internal.config.SnmpChannelConfiguration;
 import org.openhab.binding.snmp.internal.config.SnmpInternalChannelConfiguration;
 import org.openhab.binding.snmp.internal.config.SnmpTargetConfiguration;
@@ -71,9 +75,11 @@ import org.snmp4j.smi.Address;
 import org.snmp4j.smi.Counter64;
 import org.snmp4j.smi.Integer32;
 import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.Null;
 import org.snmp4j.smi.OID;
 import org.snmp4j.smi.OctetString;
 import org.snmp4j.smi.Opaque;
+import org.snmp4j.smi.SMIConstants;
 import org.snmp4j.smi.UdpAddress;
 import org.snmp4j.smi.UnsignedInteger32;
 import org.snmp4j.smi.Variable;
@@ -96,9 +102,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     private final SnmpService snmpService;
     private @Nullable ScheduledFuture<?> refresh;
     private int timeoutCounter = 0;
+    // timeouts are counted once per refresh cycle, a cycle can consist of several requests
+    private int refreshCycle = 0;
+    private int lastTimeoutCycle = -1;
 
     private @NonNullByDefault({}) AbstractTarget<UdpAddress> target;
     private @NonNullByDefault({}) String targetAddressString;
+    private @NonNullByDefault({}) SnmpReadRequestBuilder readRequestBuilder;
 
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
@@ -231,8 +241,12 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             target.setRetries(config.retries);
             target.setTimeout(config.timeout);
             target.setVersion(config.protocol.toInteger());
+            target.setMaxSizeRequestPDU(config.maxMessageSize);
             target.setAddress(null);
 
+            readRequestBuilder = new SnmpReadRequestBuilder(this::getPDU, config.protocol.toInteger(),
+                    config.maxMessageSize);
+
             timeoutCounter = 0;
         } catch (IllegalArgumentException e) {
             // some methods of SNMP4J throw an unchecked IllegalArgumentException if they receive invalid values
@@ -282,6 +296,11 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         if (response == null) {
             Exception e = event.getError();
             if (e == null) { // no response, no error -> request timed out
+                if (lastTimeoutCycle == refreshCycle) {
+                    // another request of this refresh cycle already timed out
+                    return;
+                }
+                lastTimeoutCycle = refreshCycle;
                 timeoutCounter++;
                 if (timeoutCounter > config.retries) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "request timed out");
@@ -298,11 +317,89 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
         logger.trace("{} received {}", thing.getUID(), response);
 
+        PDU request = event.getRequest();
+        boolean readRequest = request != null && (request.getType() == PDU.GET || request.getType() == PDU.GETBULK);
+        if (readRequest && response.getErrorStatus() != PDU.noError) {
+            handleReadError(Objects.requireNonNull(request), event.getUserObject(), response);
+            return;
+        }
+
         response.getVariableBindings().forEach(variable -> {
             if (variable != null) {
                 updateChannels(variable.getOid(), variable.getVariable(), readChannelSet);
             }
         });
+
+        if (request != null && request.getType() == PDU.GETBULK) {
+            completeBulkResponse(toOidList(event.getUserObject()), response);
+        }
+    }
+
+    private void handleReadError(PDU request, @Nullable Object userObject, PDU response) {
+        if (response.getErrorStatus() == PDU.tooBig) {
+            List<ReadRequest> requests = readRequestBuilder.split(request, toOidList(userObject));
+            if (requests.isEmpty()) {
+                logger.warn("{} requested {} but the response exceeds the maximum message size", thing.getUID(),
+                        request);
+            } else {
+                logger.debug("{} got tooBig for {}, splitting request", thing.getUID(), request);
+                sendReadRequests(requests);
+            }
+            return;
+        }
+
+        int errorIndex = response.getErrorIndex();
+        if (request.getType() == PDU.GET && errorIndex > 0 && errorIndex <= request.size()) {
+            // v1 agents reject the whole request if a single OID is not available, request the other OIDs again
+            OID failedOid = request.get(errorIndex - 1).getOid();
+            logger.debug("{} requested {} and got error '{}' for {}", thing.getUID(), request,
+                    response.getErrorStatusText(), failedOid);
+            updateChannels(failedOid, Null.noSuchObject, readChannelSet);
+            List<OID> remainingOids = request.getVariableBindings().stream().map(VariableBinding::getOid)
+                    .filter(oid -> !oid.equals(failedOid)).toList();
+            if (!remainingOids.isEmpty()) {
+                sendReadRequests(readRequestBuilder.build(remainingOids, false));
+            }
+            return;
+        }
+
+        logger.warn("{} requested {} and got error: {}", thing.getUID(), request, response.getErrorStatusText());
+    }
+
+    private void completeBulkResponse(List<OID> requestedOids, PDU response) {
+        List<? extends VariableBinding> variables = response.getVariableBindings();
+        Set<OID> receivedOids = new HashSet<>();
+        OID lastOid = null;
+        boolean endOfMibView = false;
+        for (VariableBinding variable : variables) {
+            receivedOids.add(variable.getOid());
+            lastOid = variable.getOid();
+            endOfMibView |= variable.getSyntax() == SMIConstants.EXCEPTION_END_OF_MIB_VIEW;
+        }
+
+        List<OID> missingOids = new ArrayList<>();
+        for (OID oid : requestedOids) {
+            if (receivedOids.contains(oid)) {
+                continue;
+            }
+            if (endOfMibView || (lastOid != null && lastOid.compareTo(oid) > 0)) {
+                // the agent walked past this OID, so the instance does not exist
+                updateChannels(oid, Null.noSuchInstance, readChannelSet);
+            } else {
+                // the agent returned less repetitions than requested
+                missingOids.add(oid);
+            }
+        }
+        if (!missingOids.isEmpty()) {
+            sendReadRequests(readRequestBuilder.build(missingOids, false));
+        }
+    }
+
+    private List<OID> toOidList(@Nullable Object userObject) {
+        if (userObject instanceof List<?> list) {
+            return list.stream().filter(OID.class::isInstance).map(OID.class::cast).toList();
+        }
+        return List.of();
     }
 
     @Override
@@ -590,12 +687,16 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
         }
-        PDU pdu = getPDU();
-        pdu.setType(PDU.GET);
-        readChannelSet.stream().map(c -> new VariableBinding(c.oid)).forEach(pdu::add);
-        if (!pdu.getVariableBindings().isEmpty()) {
+        refreshCycle++;
+        sendReadRequests(readRequestBuilder.build(readChannelSet.stream().map(c -> c.oid).toList(), true));
+    }
+
+    private void sendReadRequests(List<ReadRequest> requests) {
+        for (ReadRequest request : requests) {
+            PDU pdu = request.pdu();
             try {
-                snmpService.send(pdu, target, null, this);
+                // GETBULK responses are matched against the requested OIDs, GET responses contain them anyway
+                snmpService.send(pdu, target, pdu.getType() == PDU.GETBULK ? request.oids() : null, this);
             } catch (IOException e) {
                 logger.info("Could not send PDU", e);
             }
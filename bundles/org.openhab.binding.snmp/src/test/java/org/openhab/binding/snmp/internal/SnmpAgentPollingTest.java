@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * Tests the polling of {@link SnmpTargetHandler} against an in-process SNMP agent.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class SnmpAgentPollingTest implements CommandResponder {
+    private static final ThingUID THING_UID = new ThingUID(THING_TYPE_TARGET, "agent");
+    private static final String IF_HC_IN_OCTETS = "1.3.6.1.2.1.31.1.1.1.6";
+    private static final String SYS_DESCR = "1.3.6.1.2.1.1.1.0";
+    private static final int PORTS = 48;
+    // this port has a channel, but the agent does not know the instance
+    private static final int MISSING_PORT = 20;
+
+    private @Mock @NonNullByDefault({}) ThingHandlerCallback thingHandlerCallback;
+
+    private final TreeMap<OID, Variable> mib = new TreeMap<>();
+    private final List<PDU> receivedRequests = new CopyOnWriteArrayList<>();
+    private volatile int maxResponseSize = Integer.MAX_VALUE;
+
+    private @NonNullByDefault({}) DefaultUdpTransportMapping agentTransport;
+    private @NonNullByDefault({}) Snmp agent;
+    private @NonNullByDefault({}) SnmpServiceImpl snmpService;
+    private @Nullable SnmpTargetHandler thingHandler;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        for (int port = 1; port <= PORTS; port++) {
+            if (port != MISSING_PORT) {
+                mib.put(new OID(IF_HC_IN_OCTETS + "." + port), new Counter64(1000L * port));
+            }
+        }
+        mib.put(new OID(SYS_DESCR), new OctetString("test agent"));
+
+        agentTransport = new DefaultUdpTransportMapping(new UdpAddress(InetAddress.getLoopbackAddress(), 0));
+        agent = new Snmp(agentTransport);
+        agent.addCommandResponder(this);
+        agent.listen();
+        snmpService = new SnmpServiceImpl(Map.of());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        SnmpTargetHandler thingHandler = this.thingHandler;
+        if (thingHandler != null) {
+            thingHandler.dispose();
+        }
+        snmpService.deactivate();
+        agent.close();
+    }
+
+    @Test
+    public void testChannelsAreReadWithFewRequests() {
+        startHandler();
+        verifyAllChannels();
+
+        // 48 counters need two GETBULK requests for the default message size, the scalar is read with GET
+        assertEquals(2, receivedRequests.stream().filter(r -> r.getType() == PDU.GETBULK).count());
+        assertEquals(1, receivedRequests.stream().filter(r -> r.getType() == PDU.GET).count());
+    }
+
+    @Test
+    public void testTruncatedAndTooBigResponsesAreCompleted() {
+        maxResponseSize = 10;
+        startHandler();
+        verifyAllChannels();
+
+        // missing repetitions are requested with GET, which is split after the agent reported tooBig
+        assertTrue(receivedRequests.stream().anyMatch(r -> r.getType() == PDU.GET && r.size() > 10));
+        assertTrue(receivedRequests.size() > 3);
+    }
+
+    private void startHandler() {
+        ThingBuilder thingBuilder = ThingBuilder.create(THING_TYPE_TARGET, THING_UID).withLabel("Test thing")
+                .withConfiguration(new Configuration(Map.of("hostname", "127.0.0.1", "port",
+                        agentTransport.getListenAddress().getPort(), "protocol", "v2c", "timeout", 500)));
+        for (int port = 1; port <= PORTS; port++) {
+            thingBuilder.withChannel(ChannelBuilder.create(new ChannelUID(THING_UID, "port" + port), "Number")
+                    .withType(CHANNEL_TYPE_UID_NUMBER).withConfiguration(new Configuration(Map.of("oid",
+                            IF_HC_IN_OCTETS + "." + port, "mode", "READ", "exceptionValue", "-1")))
+                    .build());
+        }
+        thingBuilder.withChannel(ChannelBuilder.create(new ChannelUID(THING_UID, "description"), "String")
+                .withType(CHANNEL_TYPE_UID_STRING)
+                .withConfiguration(new Configuration(Map.of("oid", SYS_DESCR, "mode", "READ"))).build());
+        Thing thing = thingBuilder.build();
+
+        SnmpTargetHandler thingHandler = new SnmpTargetHandler(thing, snmpService);
+        thing.setHandler(thingHandler);
+        thingHandler.setCallback(thingHandlerCallback);
+        doAnswer(answer -> {
+            ((Thing) answer.getArgument(0)).setStatusInfo(answer.getArgument(1));
+            return null;
+        }).when(thingHandlerCallback).statusUpdated(any(), any());
+        this.thingHandler = thingHandler;
+        thingHandler.initialize();
+    }
+
+    private void verifyAllChannels() {
+        for (int port = 1; port <= PORTS; port++) {
+            DecimalType expected = new DecimalType(port == MISSING_PORT ? -1 : 1000L * port);
+            verify(thingHandlerCallback, timeout(5000).atLeastOnce())
+                    .stateUpdated(new ChannelUID(THING_UID, "port" + port), expected);
+        }
+        verify(thingHandlerCallback, timeout(5000).atLeastOnce())
+                .stateUpdated(new ChannelUID(THING_UID, "description"), new StringType("test agent"));
+    }
+
+    @Override
+    public void processPdu(@Nullable CommandResponderEvent event) {
+        if (event == null) {
+            return;
+        }
+        PDU request = event.getPDU();
+        receivedRequests.add(request);
+
+        PDU response = new PDU();
+        response.setType(PDU.RESPONSE);
+        response.setRequestID(request.getRequestID());
+        if (request.getType() == PDU.GET) {
+            if (request.size() > maxResponseSize) {
+                response.setErrorStatus(PDU.tooBig);
+            } else {
+                for (VariableBinding variable : request.getVariableBindings()) {
+                    Variable value = mib.get(variable.getOid());
+                    response.add(new VariableBinding(variable.getOid(), value != null ? value : Null.noSuchInstance));
+                }
+            }
+        } else if (request.getType() == PDU.GETBULK) {
+            // like real agents, truncate the response instead of reporting tooBig
+            OID oid = request.get(0).getOid();
+            int repetitions = Math.min(request.getMaxRepetitions(), maxResponseSize);
+            for (int i = 0; i < repetitions; i++) {
+                Map.Entry<OID, Variable> next = mib.higherEntry(oid);
+                if (next == null) {
+                    response.add(new VariableBinding(oid, Null.endOfMibView));
+                    break;
+                }
+                oid = next.getKey();
+                response.add(new VariableBinding(oid, next.getValue()));
+            }
+        } else {
+            response.setErrorStatus(PDU.genErr);
+        }
+
+        try {
+            event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(),
+                    event.getSecurityModel(), event.getSecurityName(), event.getSecurityLevel(), response,
+                    event.getMaxSizeResponsePDU(), event.getStateReference(), new StatusInformation());
+        } catch (MessageException e) {
+            fail(e.getMessage());
+        }
+        event.setProcessed(true);
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.snmp.internal.SnmpReadRequestBuilder.ReadRequest;
+import org.snmp4j.PDU;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.OID;
+
+/**
+ * Tests cases for {@link SnmpReadRequestBuilder}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnmpReadRequestBuilderTest {
+    private static final String IF_HC_IN_OCTETS = "1.3.6.1.2.1.31.1.1.1.6";
+    private static final OID SYS_DESCR = new OID("1.3.6.1.2.1.1.1.0");
+    private static final OID SYS_UPTIME = new OID("1.3.6.1.2.1.1.3.0");
+
+    private static List<OID> column(String column, int firstIndex, int lastIndex) {
+        return IntStream.rangeClosed(firstIndex, lastIndex).mapToObj(i -> new OID(column + "." + i)).toList();
+    }
+
+    @Test
+    public void testScalarsAreCombinedInOneGetRequest() {
+        SnmpReadRequestBuilder builder = new SnmpReadRequestBuilder(PDU::new, SnmpConstants.version2c, 1472);
+        List<ReadRequest> requests = builder.build(List.of(SYS_UPTIME, SYS_DESCR, SYS_DESCR), true);
+
+        assertEquals(1, requests.size());
+        PDU pdu = requests.get(0).pdu();
+        assertEquals(PDU.GET, pdu.getType());
+        assertEquals(2, pdu.size());
+        assertEquals(SYS_DESCR, pdu.get(0).getOid());
+        assertEquals(SYS_UPTIME, pdu.get(1).getOid());
+    }
+
+    @Test
+    public void testColumnIsReadWithGetBulk() {
+        SnmpReadRequestBuilder builder = new SnmpReadRequestBuilder(PDU::new, SnmpConstants.version2c, 65535);
+        List<OID> oids = new ArrayList<>(column(IF_HC_IN_OCTETS, 1, 24));
+        oids.add(SYS_DESCR);
+        List<ReadRequest> requests = builder.build(oids, true);
+
+        assertEquals(2, requests.size());
+        ReadRequest get = requests.stream().filter(r -> r.pdu().getType() == PDU.GET).findAny().orElseThrow();
+        assertEquals(List.of(SYS_DESCR), get.oids());
+
+        ReadRequest bulk = requests.stream().filter(r -> r.pdu().getType() == PDU.GETBULK).findAny().orElseThrow();
+        assertEquals(24, bulk.pdu().getMaxRepetitions());
+        assertEquals(0, bulk.pdu().getNonRepeaters());
+        assertEquals(new OID(IF_HC_IN_OCTETS + ".0"), bulk.pdu().get(0).getOid());
+        assertEquals(column(IF_HC_IN_OCTETS, 1, 24), bulk.oids());
+    }
+
+    @Test
+    public void testBulkIsNotUsedForV1OrShortRuns() {
+        List<OID> oids = column(IF_HC_IN_OCTETS, 1, 24);
+        SnmpReadRequestBuilder v1Builder = new SnmpReadRequestBuilder(PDU::new, SnmpConstants.version1, 65535);
+        assertTrue(v1Builder.build(oids, true).stream().allMatch(r -> r.pdu().getType() == PDU.GET));
+
+        SnmpReadRequestBuilder builder = new SnmpReadRequestBuilder(PDU::new, SnmpConstants.version2c, 65535);
+        assertTrue(builder.build(oids, false).stream().allMatch(r -> r.pdu().getType() == PDU.GET));
+
+        List<OID> shortRun = column(IF_HC_IN_OCTETS, 1, SnmpReadRequestBuilder.MIN_BULK_RUN - 1);
+        assertTrue(builder.build(shortRun, true).stream().allMatch(r -> r.pdu().getType() == PDU.GET));
+    }
+
+    @Test
+    public void testRequestsFitIntoMaximumMessageSize() {
+        List<OID> oids = column(IF_HC_IN_OCTETS, 1, 96);
+        // every variable binding of the response needs about 40 bytes
+        SnmpReadRequestBuilder builder = new SnmpReadRequestBuilder(PDU::new, SnmpConstants.version2c, 484);
+        List<ReadRequest> requests = builder.build(oids, true);
+
+        assertTrue(requests.size() > 1);
+        assertTrue(requests.size() < 96 / 5);
+        assertEquals(96, requests.stream().mapToInt(r -> r.pdu().getMaxRepetitions()).sum());
+        assertEquals(oids, requests.stream().flatMap(r -> r.oids().stream()).toList());
+        // the second request continues where the first stopped
+        OID lastOfFirst = requests.get(0).oids().get(requests.get(0).oids().size() - 1);
+        assertEquals(lastOfFirst, requests.get(1).pdu().get(0).getOid());
+    }
+
+    @Test
+    public void testSplit() {
+        SnmpReadRequestBuilder builder = new SnmpReadRequestBuilder(PDU::new, SnmpConstants.version2c, 65535);
+        ReadRequest get = builder.build(List.of(SYS_DESCR, SYS_UPTIME), true).get(0);
+        List<ReadRequest> parts = builder.split(get.pdu(), List.of());
+        assertEquals(2, parts.size());
+        assertEquals(List.of(SYS_DESCR), parts.get(0).oids());
+        assertEquals(List.of(SYS_UPTIME), parts.get(1).oids());
+        assertTrue(builder.split(parts.get(0).pdu(), List.of()).isEmpty());
+
+        ReadRequest bulk = builder.build(column(IF_HC_IN_OCTETS, 1, 8), true).get(0);
+        parts = builder.split(bulk.pdu(), bulk.oids());
+        assertEquals(2, parts.size());
+        assertEquals(PDU.GETBULK, parts.get(1).pdu().getType());
+        assertEquals(4, parts.get(1).pdu().getMaxRepetitions());
+        assertEquals(new OID(IF_HC_IN_OCTETS + ".4"), parts.get(1).pdu().get(0).getOid());
+    }
+}
@@ -14,9 +14,14 @@ package org.openhab.io.homekit.internal;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -32,11 +37,48 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Characteristic change notifications are not sent on the thread that changed the item state, but on a shared
+ * dispatcher. Changes of the same characteristic are coalesced: at most one notification is sent per minimum
+ * interval, and as HomeKit reads the current value when it is notified, the last state always wins.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, StateChangeListener> subscriptionsByName = new ConcurrentHashMap<>();
+    private final @Nullable ScheduledExecutorService dispatcher;
+    private volatile long minimumIntervalNanos;
+
+    private final AtomicLong receivedNotifications = new AtomicLong();
+    private final AtomicLong emittedNotifications = new AtomicLong();
+    private final AtomicLong suppressedNotifications = new AtomicLong();
+
+    /**
+     * Creates an updater that notifies HomeKit directly on the thread that changed the item state.
+     */
+    public HomekitAccessoryUpdater() {
+        this(null, 0);
+    }
+
+    /**
+     * Creates an updater that coalesces notifications and sends them on the given dispatcher.
+     *
+     * @param dispatcher the executor to send notifications on, null to send them directly
+     * @param minimumInterval the minimum time in milliseconds between two notifications of the same characteristic
+     */
+    public HomekitAccessoryUpdater(@Nullable ScheduledExecutorService dispatcher, int minimumInterval) {
+        this.dispatcher = dispatcher;
+        setMinimumInterval(minimumInterval);
+    }
+
+    /**
+     * Changes the minimum time between two notifications of the same characteristic.
+     *
+     * @param minimumInterval the minimum interval in milliseconds
+     */
+    public void setMinimumInterval(int minimumInterval) {
+        this.minimumIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minimumInterval));
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -58,7 +100,14 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            final ScheduledExecutorService localDispatcher = dispatcher;
+            final Subscription subscription;
+            if (localDispatcher == null) {
+                subscription = (changedItem, oldState, newState) -> callback.changed();
+            } else {
+                final CoalescingNotifier notifier = new CoalescingNotifier(localDispatcher, callback, item, key);
+                subscription = (changedItem, oldState, newState) -> notifier.changed();
+            }
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -86,6 +135,22 @@ public class HomekitAccessoryUpdater {
         });
     }
 
+    /**
+     * Logs the notification statistics of this updater.
+     */
+    public void logStatistics() {
+        logger.debug("HomeKit notifications: {} changes received, {} notifications emitted, {} suppressed",
+                receivedNotifications.get(), emittedNotifications.get(), suppressedNotifications.get());
+    }
+
+    public long getEmittedNotifications() {
+        return emittedNotifications.get();
+    }
+
+    public long getSuppressedNotifications() {
+        return suppressedNotifications.get();
+    }
+
     public void unsubscribe(GenericItem item) {
         unsubscribe(item, null);
     }
@@ -101,6 +166,65 @@ public class HomekitAccessoryUpdater {
         });
     }
 
+    /**
+     * Sends the change notification of a single characteristic on the dispatcher, at most once per minimum interval.
+     */
+    private class CoalescingNotifier {
+        private final ScheduledExecutorService dispatcher;
+        private final HomekitCharacteristicChangeCallback callback;
+        private final GenericItem item;
+        private final String key;
+
+        // guarded by this
+        private boolean scheduled = false;
+        private long lastEmitted;
+
+        private CoalescingNotifier(ScheduledExecutorService dispatcher, HomekitCharacteristicChangeCallback callback,
+                GenericItem item, String key) {
+            this.dispatcher = dispatcher;
+            this.callback = callback;
+            this.item = item;
+            this.key = key;
+            this.lastEmitted = System.nanoTime() - minimumIntervalNanos;
+        }
+
+        private void changed() {
+            receivedNotifications.incrementAndGet();
+            final long delay;
+            synchronized (this) {
+                if (scheduled) {
+                    // the pending notification will report the latest value
+                    suppressedNotifications.incrementAndGet();
+                    return;
+                }
+                scheduled = true;
+                delay = Math.max(0, lastEmitted + minimumIntervalNanos - System.nanoTime());
+            }
+            try {
+                dispatcher.schedule(this::emit, delay, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    scheduled = false;
+                }
+                logger.debug("Cannot send notification for {} / {}: {}", item, key, e.getMessage());
+            }
+        }
+
+        private void emit() {
+            synchronized (this) {
+                scheduled = false;
+                lastEmitted = System.nanoTime();
+            }
+            emittedNotifications.incrementAndGet();
+            try {
+                callback.changed();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to notify HomeKit about the change of {} / {}: {}", item.getName(), key,
+                        e.getMessage());
+            }
+        }
+    }
+
     @FunctionalInterface
     @NonNullByDefault
     private interface Subscription extends StateChangeListener {
@@ -23,8 +23,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -66,14 +68,27 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     private final MetadataRegistry metadataRegistry;
     private final Storage<Object> storage;
     private final RegistryChangeListener<Metadata> metadataChangeListener;
-    private HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater();
+    private HomekitAccessoryUpdater updater;
     private HomekitSettings settings;
     private int lastAccessoryCount;
     private Map<String, String> knownAccessories = new HashMap<>();
     private int instance;
     private List<String> priorDummies = new ArrayList<>();
 
-    private final Set<String> pendingUpdates = new HashSet<>();
+    /**
+     * Names of the items whose accessories have to be rebuilt. Filled by the registry listeners without holding the
+     * lock of this listener, so that they are not blocked while a batch of updates is applied.
+     */
+    private final Set<String> pendingUpdates = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Index from the name of an item to the names of the root accessories it is part of (the root item itself and all
+     * its group members). Allows to find the affected accessories of an item even if it has been removed from the
+     * registry or from its accessory group.
+     */
+    private final Map<String, Set<String>> accessoriesByItem = new ConcurrentHashMap<>();
+    // guarded by this
+    private final Map<String, Set<String>> itemsByAccessory = new HashMap<>();
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
@@ -89,9 +104,10 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     private final Debouncer applyUpdatesDebouncer;
 
     HomekitChangeListener(ItemRegistry itemRegistry, HomekitSettings settings, MetadataRegistry metadataRegistry,
-            Storage<Object> storage, int instance) {
+            Storage<Object> storage, int instance, HomekitAccessoryUpdater updater) {
         this.itemRegistry = itemRegistry;
         this.settings = settings;
+        this.updater = updater;
         this.metadataRegistry = metadataRegistry;
         this.storage = storage;
         this.instance = instance;
@@ -139,24 +155,29 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         };
         itemRegistry.addRegistryChangeListener(this);
         metadataRegistry.addRegistryChangeListener(metadataChangeListener);
-        initialiseRevision();
-        boolean changed = false;
-        for (var i : itemRegistry.getItems()) {
-            String oldValue = knownAccessories.get(i.getName());
-            createRootAccessories(i);
-            if (accessoryChanged(i.getName(), oldValue)) {
-                logger.debug("Accessory {} changed:\n{}\n{}", i.getName(), oldValue, knownAccessories.get(i.getName()));
-                changed = true;
+        // the listeners are already registered, so applyUpdates() may run concurrently
+        synchronized (this) {
+            initialiseRevision();
+            boolean changed = false;
+            for (var i : itemRegistry.getItems()) {
+                String oldValue = knownAccessories.get(i.getName());
+                createRootAccessories(i);
+                if (accessoryChanged(i.getName(), oldValue)) {
+                    logger.debug("Accessory {} changed:\n{}\n{}", i.getName(), oldValue,
+                            knownAccessories.get(i.getName()));
+                    changed = true;
+                }
             }
-        }
-        // order of this conditional is important - checkMissingAccessories has side effects that need to always happen
-        if (checkMissingAccessories() || changed) {
-            makeNewConfigurationRevision();
-        } else {
-            logger.info("Created {} HomeKit items in instance {} (no change from prior configuration).",
-                    accessoryRegistry.getAllAccessories().size(), instance);
-            if (settings.useDummyAccessories) {
-                checkForDummyAccessories();
+            // order of this conditional is important - checkMissingAccessories has side effects that need to always
+            // happen
+            if (checkMissingAccessories() || changed) {
+                makeNewConfigurationRevision();
+            } else {
+                logger.info("Created {} HomeKit items in instance {} (no change from prior configuration).",
+                        accessoryRegistry.getAllAccessories().size(), instance);
+                if (settings.useDummyAccessories) {
+                    checkForDummyAccessories();
+                }
             }
         }
     }
@@ -197,7 +218,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     @Override
-    public synchronized void added(Item item) {
+    public void added(Item item) {
         if (hasHomeKitMetadata(item)) {
             markDirty(item);
         }
@@ -214,9 +235,10 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      *
      * @param item The item that has been changed or removed.
      */
-    private synchronized void markDirty(Item item) {
+    private void markDirty(Item item) {
         logger.trace("Mark dirty item {}", item.getName());
         pendingUpdates.add(item.getName());
+        pendingUpdates.addAll(accessoriesByItem.getOrDefault(item.getName(), Set.of()));
         /*
          * If findMyAccessoryGroups fails because the accessory group has already been deleted, then we can count on a
          * later update telling us that the accessory group was removed.
@@ -235,7 +257,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     @Override
-    public synchronized void removed(Item item) {
+    public void removed(Item item) {
         if (hasHomeKitMetadata(item)) {
             markDirty(item);
         }
@@ -281,24 +303,44 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     private synchronized void applyUpdates() {
         logger.trace("Apply updates");
+        final List<String> batch = new ArrayList<>();
+        for (var iterator = pendingUpdates.iterator(); iterator.hasNext();) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
 
         HomekitRoot bridge = accessoryRegistry.getBridge();
         if (bridge != null) {
             bridge.batchUpdate();
         }
 
+        final long batchStart = System.nanoTime();
+        long slowestRebuild = 0;
+        String slowestName = "";
+        boolean changed = false;
         try {
-            boolean changed = false;
-            for (final String name : pendingUpdates) {
+            for (final String name : batch) {
+                final long rebuildStart = System.nanoTime();
                 String oldValue = knownAccessories.get(name);
                 accessoryRegistry.remove(name);
+                removeFromIndex(name);
                 logger.trace(" Add items {}", name);
                 getItemOptional(name).ifPresent(this::createRootAccessories);
                 if (accessoryChanged(name, oldValue)) {
                     changed = true;
                 }
+                final long rebuildTime = System.nanoTime() - rebuildStart;
+                logger.trace(" Rebuilt accessory {} in {} microseconds", name,
+                        TimeUnit.NANOSECONDS.toMicros(rebuildTime));
+                if (rebuildTime > slowestRebuild) {
+                    slowestRebuild = rebuildTime;
+                    slowestName = name;
+                }
             }
-            pendingUpdates.clear();
+            // a single new configuration revision for the whole batch
             if (checkMissingAccessories() || changed) {
                 makeNewConfigurationRevision();
             }
@@ -308,6 +350,51 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                 bridge.completeUpdateBatch();
             }
         }
+        logger.debug("Rebuilt {} HomeKit accessories in instance {} in {} ms (slowest: {} in {} ms), configuration {}.",
+                batch.size(), instance, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStart), slowestName,
+                TimeUnit.NANOSECONDS.toMillis(slowestRebuild), changed ? "changed" : "unchanged");
+    }
+
+    /**
+     * Remembers which items are part of the given root accessory.
+     */
+    private void addToIndex(String accessoryName, Item item) {
+        final Set<String> itemNames = new HashSet<>();
+        collectItemNames(item, itemNames);
+        itemsByAccessory.put(accessoryName, itemNames);
+        itemNames.forEach(itemName -> accessoriesByItem.compute(itemName, (key, accessories) -> {
+            final Set<String> newAccessories = accessories == null ? new HashSet<>() : new HashSet<>(accessories);
+            newAccessories.add(accessoryName);
+            return Set.copyOf(newAccessories);
+        }));
+    }
+
+    /**
+     * Adds the name of the item and of all its direct and nested members, including the nested groups themselves.
+     */
+    private static void collectItemNames(Item item, Set<String> itemNames) {
+        if (!itemNames.add(item.getName())) {
+            // already visited, groups may be members of several groups or even of themselves
+            return;
+        }
+        if (item instanceof GroupItem groupItem) {
+            groupItem.getMembers().forEach(member -> collectItemNames(member, itemNames));
+        }
+    }
+
+    /**
+     * Forgets the items of the given root accessory.
+     */
+    private void removeFromIndex(String accessoryName) {
+        final Set<String> itemNames = itemsByAccessory.remove(accessoryName);
+        if (itemNames == null) {
+            return;
+        }
+        itemNames.forEach(itemName -> accessoriesByItem.computeIfPresent(itemName, (key, accessories) -> {
+            final Set<String> newAccessories = new HashSet<>(accessories);
+            newAccessories.remove(accessoryName);
+            return newAccessories.isEmpty() ? null : Set.copyOf(newAccessories);
+        }));
     }
 
     private boolean accessoryChanged(String name, @Nullable String oldValue) {
@@ -331,6 +418,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public synchronized void clearAccessories() {
         accessoryRegistry.clear();
+        itemsByAccessory.clear();
+        accessoriesByItem.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
@@ -344,6 +433,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     public void updateSettings(HomekitSettings settings) {
         boolean wasUsingDummyAccessories = this.settings.useDummyAccessories;
         this.settings = settings;
+        updater.setMinimumInterval(settings.notificationInterval);
         // If they turned off dummy accessories, immediately prune them
         if (wasUsingDummyAccessories && !settings.useDummyAccessories) {
             pruneDummyAccessories();
@@ -355,6 +445,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
         applyUpdatesDebouncer.stop();
         accessoryRegistry.unsetBridge();
+        updater.logStatistics();
     }
 
     public Map<String, HomekitAccessory> getAccessories() {
@@ -482,6 +573,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                     });
             knownAccessories.put(taggedItem.getName(), accessory.toJson());
             accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            addToIndex(taggedItem.getName(), item);
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}: {}", taggedItem, e.getMessage());
         }
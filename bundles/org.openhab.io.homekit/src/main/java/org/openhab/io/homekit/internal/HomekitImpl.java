@@ -23,12 +23,14 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
 import javax.jmdns.JmDNS;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
@@ -94,6 +96,12 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
+    /**
+     * Single thread shared by all instances to send characteristic change notifications to HomeKit clients
+     */
+    private final ScheduledExecutorService notificationDispatcher = Executors
+            .newSingleThreadScheduledExecutor(new NamedThreadFactory("homekit-notifications"));
+
     @Activate
     public HomekitImpl(@Reference StorageService storageService, @Reference ItemRegistry itemRegistry,
             @Reference NetworkAddressService networkAddressService, @Reference MetadataRegistry metadataRegistry,
@@ -263,7 +271,8 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
         }
         homekitServers.add(homekitServer);
         HomekitChangeListener changeListener = new HomekitChangeListener(itemRegistry, settings, metadataRegistry,
-                storage, instance + 1);
+                storage, instance + 1,
+                new HomekitAccessoryUpdater(notificationDispatcher, settings.notificationInterval));
         changeListeners.add(changeListener);
         startBridge(homekitServer, authInfo, changeListener, instance + 1);
         authInfos.add(authInfo);
@@ -331,6 +340,7 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
     protected void deactivate() {
         networkAddressService.removeNetworkAddressChangeListener(this);
         stopHomekitServer();
+        notificationDispatcher.shutdownNow();
     }
 
     @Override
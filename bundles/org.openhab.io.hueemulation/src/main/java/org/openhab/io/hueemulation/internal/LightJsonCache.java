@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
+import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
+
+import com.google.gson.Gson;
+
+/**
+ * Keeps the serialized JSON of every hue light, so that the frequent polls of hue clients (e.g. Echo devices) do not
+ * serialize all lights on every request.
+ * <p>
+ * A fragment is only serialized again if something it is computed from has changed: the associated item, the item
+ * state or label, or the last command and state change received via the hue API. The response for all lights is
+ * assembled from the fragments and reused (together with its ETag) as long as no fragment has changed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LightJsonCache {
+    /**
+     * The JSON object of all lights together with its ETag.
+     */
+    public record AllLights(String json, String eTag) {
+    }
+
+    private final Gson gson;
+
+    // guarded by this
+    private final Map<String, Fragment> fragments = new HashMap<>();
+    private List<String> assembledIds = List.of();
+    private @Nullable AllLights assembled;
+
+    public LightJsonCache(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Returns the JSON object of all given lights, keyed by hue ID, together with its ETag.
+     *
+     * @param lights The hue lights of the data store
+     */
+    public synchronized AllLights getAllLights(Map<String, HueLightEntry> lights) {
+        AllLights allLights = assembled;
+        boolean changed = allLights == null || assembledIds.size() != lights.size();
+        List<String> ids = new ArrayList<>(lights.size());
+        int index = 0;
+        for (Map.Entry<String, HueLightEntry> entry : lights.entrySet()) {
+            String id = entry.getKey();
+            ids.add(id);
+            if (refresh(id, entry.getValue()) || changed || !id.equals(assembledIds.get(index))) {
+                changed = true;
+            }
+            index++;
+        }
+        if (!changed && allLights != null) {
+            return allLights;
+        }
+
+        fragments.keySet().retainAll(lights.keySet());
+        StringBuilder builder = new StringBuilder(lights.size() * 512);
+        builder.append('{');
+        for (String id : ids) {
+            Fragment fragment = Objects.requireNonNull(fragments.get(id));
+            if (builder.length() > 1) {
+                builder.append(',');
+            }
+            builder.append(gson.toJson(id)).append(':').append(fragment.json);
+        }
+        builder.append('}');
+        String json = builder.toString();
+        allLights = new AllLights(json, computeETag(json));
+        assembledIds = ids;
+        assembled = allLights;
+        return allLights;
+    }
+
+    /**
+     * Returns the JSON of a single light.
+     *
+     * @param id The hue ID
+     * @param light The hue light
+     */
+    public synchronized String getLightJson(String id, HueLightEntry light) {
+        refresh(id, light);
+        return Objects.requireNonNull(fragments.get(id)).json;
+    }
+
+    /**
+     * Discards all fragments, e.g. because the light entries have been recreated.
+     */
+    public synchronized void invalidate() {
+        fragments.clear();
+        assembledIds = List.of();
+        assembled = null;
+    }
+
+    /**
+     * Computes a strong entity tag value (without quotes) for the given response body.
+     *
+     * @param json The response body
+     */
+    public static String computeETag(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return Long.toHexString(crc.getValue()) + Integer.toHexString(json.hashCode())
+                + Integer.toHexString(bytes.length);
+    }
+
+    /**
+     * Serializes the light again, if its fingerprint has changed.
+     *
+     * @return true if the fragment has been (re-)created
+     */
+    private boolean refresh(String id, HueLightEntry light) {
+        Fragment fragment = fragments.get(id);
+        if (fragment != null && fragment.isUpToDate(light)) {
+            return false;
+        }
+        // The serializer derives the state and name from the item, so the fingerprint is taken before serializing
+        Fragment newFragment = new Fragment(light);
+        newFragment.json = gson.toJson(light);
+        fragments.put(id, newFragment);
+        return true;
+    }
+
+    /**
+     * A serialized light together with everything its serialization depends on.
+     */
+    private static class Fragment {
+        private final HueLightEntry light;
+        private final GenericItem item;
+        private final State itemState;
+        private final @Nullable String label;
+        private final @Nullable Command lastCommand;
+        private final @Nullable HueStateChange lastHueChange;
+        private String json = "";
+
+        private Fragment(HueLightEntry light) {
+            this.light = light;
+            this.item = light.item;
+            this.itemState = light.item.getState();
+            this.label = light.item.getLabel();
+            this.lastCommand = light.lastCommand;
+            this.lastHueChange = light.lastHueChange;
+        }
+
+        private boolean isUpToDate(HueLightEntry light) {
+            return this.light == light && item == light.item && itemState.equals(light.item.getState())
+                    && Objects.equals(label, light.item.getLabel()) && lastCommand == light.lastCommand
+                    && lastHueChange == light.lastHueChange;
+        }
+    }
+}
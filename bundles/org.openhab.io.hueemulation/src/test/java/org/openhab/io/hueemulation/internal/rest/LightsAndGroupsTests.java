@@ -22,6 +22,7 @@ import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -327,6 +328,35 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsNotModified() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        assertThat(etag, is(notNullValue()));
+
+        response = commonSetup.sendGet("/testuser/lights", etag);
+        assertEquals(304, response.getStatus());
+
+        // A changed item state must result in a new response
+        cs.ds.lights.get("1").item.setState(OnOffType.ON);
+        response = commonSetup.sendGet("/testuser/lights", etag);
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), is(not(etag)));
+        assertThat(response.getContentAsString(), containsString("\"on\":true"));
+    }
+
+    @Test
+    public void allGroupsNotModified() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/groups");
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        assertThat(etag, is(notNullValue()));
+
+        response = commonSetup.sendGet("/testuser/groups", etag);
+        assertEquals(304, response.getStatus());
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
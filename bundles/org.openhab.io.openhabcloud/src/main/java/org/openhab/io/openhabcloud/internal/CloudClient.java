@@ -19,26 +19,31 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.util.BytesContentProvider;
 import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -118,6 +123,31 @@ public class CloudClient {
      */
     private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
 
+    /*
+     * This variable holds the number of requests to local openHAB which have been sent and are not yet completed
+     */
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    /*
+     * This queue holds requests to local openHAB which wait to be sent because too many requests are active
+     */
+    private final Deque<Runnable> pendingRequests = new ConcurrentLinkedDeque<>();
+
+    /*
+     * This variable holds the size from which on response content is sent to the openHAB Cloud, 0 sends every chunk
+     */
+    private final int responseFrameSize;
+
+    /*
+     * This variable indicates if proxied responses should be compressed before they are sent to the openHAB Cloud
+     */
+    private final boolean compressResponses;
+
+    /*
+     * This variable holds the maximum number of requests to local openHAB running at the same time, 0 for unlimited
+     */
+    private final int maxConcurrentRequests;
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
@@ -165,9 +195,13 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param responseFrameSize size from which on proxied response content is sent, 0 to send every chunk directly
+     * @param compressResponses compress proxied responses if the client accepts it
+     * @param maxConcurrentRequests maximum number of proxied requests running at the same time, 0 for unlimited
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, int responseFrameSize, boolean compressResponses,
+            int maxConcurrentRequests) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
@@ -175,6 +209,9 @@ public class CloudClient {
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
         this.jettyClient = httpClient;
+        this.responseFrameSize = responseFrameSize;
+        this.compressResponses = compressResponses;
+        this.maxConcurrentRequests = maxConcurrentRequests;
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
         reconnectBackoff.setJitter(RECONNECT_JITTER);
@@ -379,8 +416,9 @@ public class CloudClient {
         logger.info("Disconnected from the openHAB Cloud service (UUID = {}, base URL = {})", censored(this.uuid),
                 this.localBaseUrl);
         isConnected = false;
-        // And clean up the list of running requests
+        // And clean up the list of running and waiting requests
         runningRequests.clear();
+        pendingRequests.clear();
     }
 
     /**
@@ -451,6 +489,7 @@ public class CloudClient {
                 proto = data.getString("protocol");
             }
             request.header("X-Forwarded-Proto", proto);
+            String acceptEncoding = getHeaderIgnoreCase(requestHeadersJson, HttpHeader.ACCEPT_ENCODING.asString());
             HttpMethod method = HttpMethod.fromString(requestMethod);
             if (method == null) {
                 logger.debug("Unsupported request method {}", requestMethod);
@@ -461,32 +500,54 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
+            AtomicReference<@Nullable ResponseContentCoalescer> contentCoalescer = new AtomicReference<>();
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
+                HttpFields headers = response.getHeaders();
+                String contentType = headers.get(HttpHeader.CONTENT_TYPE);
+                // event streams have to be forwarded immediately and unmodified
+                boolean streaming = contentType != null && contentType.startsWith("text/event-stream");
+                boolean compress = compressResponses && !streaming
+                        && ResponseContentCoalescer.isCompressible(acceptEncoding,
+                                headers.get(HttpHeader.CONTENT_ENCODING), contentType)
+                        && ResponseContentCoalescer.mayHaveContent(requestMethod, response.getStatus());
                 JSONObject responseJson = new JSONObject();
                 try {
+                    contentCoalescer.set(new ResponseContentCoalescer(streaming ? 0 : responseFrameSize, compress,
+                            frame -> sendResponseContent(requestId, frame)));
+                    JSONObject headersJson;
+                    if (compress) {
+                        // the length of the compressed content is not known in advance
+                        headersJson = getJSONHeaders(headers, HttpHeader.CONTENT_LENGTH.asString());
+                        headersJson.put(HttpHeader.CONTENT_ENCODING.asString(), "gzip");
+                    } else {
+                        headersJson = getJSONHeaders(headers);
+                    }
                     responseJson.put("id", requestId);
-                    responseJson.put("headers", getJSONHeaders(response.getHeaders()));
+                    responseJson.put("headers", headersJson);
                     responseJson.put("responseStatusCode", response.getStatus());
                     responseJson.put("responseStatusText", "OK");
                     socket.emit("responseHeader", responseJson);
                     logger.trace("Sent headers to request {}", requestId);
                     logger.trace("{}", responseJson.toString());
-                } catch (JSONException e) {
+                } catch (JSONException | IOException e) {
                     logger.debug("{}", e.getMessage());
                 }
             }).onResponseContent((theResponse, content) -> {
                 logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}", StandardCharsets.UTF_8.decode(content.slice()).toString());
+                }
+                ResponseContentCoalescer coalescer = contentCoalescer.get();
                 try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
+                    if (coalescer != null) {
+                        coalescer.addContent(content);
+                    } else {
+                        byte[] bytes = new byte[content.remaining()];
+                        content.get(bytes);
+                        sendResponseContent(requestId, bytes);
                     }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
+                } catch (IOException e) {
                     logger.debug("{}", e.getMessage());
                 }
             }).onRequestFailure((origRequest, failure) -> {
@@ -499,10 +560,19 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).send(result -> {
+            });
+            Response.CompleteListener completeListener = result -> {
                 logger.debug("onComplete: {}", requestId);
                 // Remove this request from list of running requests
                 runningRequests.remove(requestId);
+                ResponseContentCoalescer coalescer = contentCoalescer.get();
+                if (coalescer != null) {
+                    try {
+                        coalescer.finish();
+                    } catch (IOException e) {
+                        logger.debug("{}", e.getMessage());
+                    }
+                }
                 if ((result != null && result.isFailed())
                         && (result.getResponse() != null && result.getResponse().getStatus() != HttpStatus.OK_200)) {
                     if (result.getFailure() != null) {
@@ -523,16 +593,72 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            });
+                if (maxConcurrentRequests > 0) {
+                    activeRequests.decrementAndGet();
+                    sendPendingRequests();
+                }
+            };
 
-            // If successfully submitted request to http client, add it to the list of currently
-            // running requests to be able to cancel it if needed
+            // Add the request to the list of currently running requests to be able to cancel it if needed,
+            // this includes requests waiting to be sent
             runningRequests.put(requestId, request);
+            if (maxConcurrentRequests > 0) {
+                pendingRequests.offerLast(() -> request.send(completeListener));
+                sendPendingRequests();
+            } else {
+                request.send(completeListener);
+            }
         } catch (JSONException | IOException | URISyntaxException e) {
             logger.debug("{}", e.getMessage());
         }
     }
 
+    /**
+     * Sends waiting requests to local openHAB as long as the maximum number of active requests is not reached
+     */
+    private void sendPendingRequests() {
+        while (true) {
+            int active = activeRequests.get();
+            if (active >= maxConcurrentRequests) {
+                logger.debug("{} requests active, {} requests waiting", active, pendingRequests.size());
+                return;
+            }
+            if (!activeRequests.compareAndSet(active, active + 1)) {
+                continue;
+            }
+            Runnable pending = pendingRequests.pollFirst();
+            if (pending == null) {
+                activeRequests.decrementAndGet();
+                if (pendingRequests.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            pending.run();
+        }
+    }
+
+    private void sendResponseContent(int requestId, byte[] content) {
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            responseJson.put("body", content);
+            socket.emit("responseContentBinary", responseJson);
+            logger.trace("Sent {} bytes of content to request {}", content.length, requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    private @Nullable String getHeaderIgnoreCase(JSONObject headersJson, String headerName) {
+        for (String name : headersJson.keySet()) {
+            if (headerName.equalsIgnoreCase(name)) {
+                return headersJson.optString(name, null);
+            }
+        }
+        return null;
+    }
+
     private void setRequestHeaders(Request request, JSONObject requestHeadersJson) {
         Iterator<String> headersIterator = requestHeadersJson.keys();
         // Convert JSONObject of headers into Header ArrayList
@@ -809,10 +935,13 @@ public class CloudClient {
         }, delay, TimeUnit.MILLISECONDS))).ifPresent(future -> future.cancel(true));
     }
 
-    private JSONObject getJSONHeaders(HttpFields httpFields) {
+    private JSONObject getJSONHeaders(HttpFields httpFields, String... excludedHeaders) {
         JSONObject headersJSON = new JSONObject();
         try {
             for (HttpField field : httpFields) {
+                if (Arrays.stream(excludedHeaders).anyMatch(field.getName()::equalsIgnoreCase)) {
+                    continue;
+                }
                 headersJSON.put(field.getName(), field.getValue());
             }
         } catch (JSONException e) {
@@ -26,6 +26,8 @@ import java.util.Set;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFilter;
@@ -76,6 +78,10 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_RESPONSE_FRAME_SIZE = "responseFrameSize";
+    private static final String CFG_COMPRESS_RESPONSES = "compressResponses";
+    private static final String CFG_MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+    private static final String CFG_ITEM_UPDATE_INTERVAL = "itemUpdateInterval";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
@@ -93,6 +99,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
     private boolean remoteAccessEnabled = true;
     private Set<String> exposedItems = null;
+    private @Nullable ItemUpdateAggregator itemUpdateAggregator;
     private int localPort;
 
     @Activate
@@ -256,6 +263,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     @Deactivate
     protected void deactivate() {
         logger.debug("openHAB Cloud connector deactivated");
+        disposeItemUpdateAggregator();
         cloudClient.shutdown();
         try {
             httpClient.stop();
@@ -298,6 +306,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         logger.debug("UUID = {}, secret = {}", censored(InstanceUUID.get()), censored(getSecret()));
 
+        disposeItemUpdateAggregator();
         if (cloudClient != null) {
             cloudClient.shutdown();
         }
@@ -312,12 +321,35 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             }
         }
 
+        int responseFrameSize = ConfigParser.valueAsOrElse(config.get(CFG_RESPONSE_FRAME_SIZE), Integer.class, 0);
+        boolean compressResponses = ConfigParser.valueAsOrElse(config.get(CFG_COMPRESS_RESPONSES), Boolean.class,
+                false);
+        int maxConcurrentRequests = ConfigParser.valueAsOrElse(config.get(CFG_MAX_CONCURRENT_REQUESTS),
+                Integer.class, 0);
+
         String localBaseUrl = "http://localhost:" + localPort;
         cloudClient = new CloudClient(httpClient, InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl,
-                remoteAccessEnabled, exposedItems);
+                remoteAccessEnabled, exposedItems, Math.max(0, responseFrameSize) * 1024, compressResponses,
+                Math.max(0, maxConcurrentRequests));
         cloudClient.connect();
         cloudClient.setListener(this);
         NotificationAction.cloudService = this;
+
+        int itemUpdateInterval = ConfigParser.valueAsOrElse(config.get(CFG_ITEM_UPDATE_INTERVAL), Integer.class, 0);
+        if (itemUpdateInterval > 0 && !exposedItems.isEmpty()) {
+            CloudClient client = cloudClient;
+            itemUpdateAggregator = new ItemUpdateAggregator(
+                    ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON), itemUpdateInterval,
+                    client::sendItemUpdate);
+        }
+    }
+
+    private void disposeItemUpdateAggregator() {
+        ItemUpdateAggregator aggregator = itemUpdateAggregator;
+        if (aggregator != null) {
+            aggregator.dispose();
+            itemUpdateAggregator = null;
+        }
     }
 
     @Override
@@ -436,7 +468,12 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     public void receive(Event event) {
         ItemStateEvent ise = (ItemStateEvent) event;
         if (supportsUpdates() && exposedItems != null && exposedItems.contains(ise.getItemName())) {
-            cloudClient.sendItemUpdate(ise.getItemName(), ise.getItemState().toString());
+            ItemUpdateAggregator aggregator = itemUpdateAggregator;
+            if (aggregator != null) {
+                aggregator.add(ise.getItemName(), ise.getItemState().toString());
+            } else {
+                cloudClient.sendItemUpdate(ise.getItemName(), ise.getItemState().toString());
+            }
         }
     }
 
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class collects item updates for the openHAB Cloud within a time window and only keeps the latest state of
+ * every item. When the window has passed, the collected states are handed out one by one.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemUpdateAggregator {
+
+    private final Logger logger = LoggerFactory.getLogger(ItemUpdateAggregator.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final long interval;
+    private final BiConsumer<String, String> sender;
+
+    // guarded by this
+    private Map<String, String> pendingUpdates = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private final AtomicLong receivedUpdates = new AtomicLong();
+    private final AtomicLong suppressedUpdates = new AtomicLong();
+    private final AtomicLong sentUpdates = new AtomicLong();
+
+    /**
+     * Constructor of ItemUpdateAggregator
+     *
+     * @param scheduler the scheduler to run the delayed sending on
+     * @param interval the time window in milliseconds
+     * @param sender receives the item name and the latest state of every item updated within the window
+     */
+    public ItemUpdateAggregator(ScheduledExecutorService scheduler, long interval, BiConsumer<String, String> sender) {
+        this.scheduler = scheduler;
+        this.interval = interval;
+        this.sender = sender;
+    }
+
+    /**
+     * Adds an item update, replacing an update of the same item that has not been sent yet.
+     *
+     * @param itemName the name of the item
+     * @param itemState the updated item state
+     */
+    public synchronized void add(String itemName, String itemState) {
+        receivedUpdates.incrementAndGet();
+        if (pendingUpdates.put(itemName, itemState) != null) {
+            suppressedUpdates.incrementAndGet();
+        }
+        if (flushJob == null) {
+            flushJob = scheduler.schedule(this::flush, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sends all collected updates immediately.
+     */
+    public void flush() {
+        Map<String, String> updates;
+        synchronized (this) {
+            flushJob = null;
+            if (pendingUpdates.isEmpty()) {
+                return;
+            }
+            updates = pendingUpdates;
+            pendingUpdates = new LinkedHashMap<>();
+        }
+        updates.forEach((itemName, itemState) -> {
+            try {
+                sender.accept(itemName, itemState);
+                sentUpdates.incrementAndGet();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to send the update of item '{}' to the openHAB Cloud: {}", itemName,
+                        e.getMessage());
+            }
+        });
+        logger.debug("Item updates: {} received, {} suppressed, {} sent", receivedUpdates.get(),
+                suppressedUpdates.get(), sentUpdates.get());
+    }
+
+    /**
+     * Cancels the scheduled sending and discards all collected updates.
+     */
+    public synchronized void dispose() {
+        ScheduledFuture<?> localFlushJob = flushJob;
+        if (localFlushJob != null) {
+            localFlushJob.cancel(false);
+            flushJob = null;
+        }
+        pendingUpdates.clear();
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * This class collects the content chunks of a proxied response and hands them out as frames of (at least) a target
+ * size, instead of emitting one message per chunk received from the local openHAB. Optionally the content is gzip
+ * compressed on the fly.
+ *
+ * This class is not thread safe, Jetty delivers the content of a single response sequentially.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ResponseContentCoalescer {
+
+    private final int frameSize;
+    private final Consumer<byte[]> frameConsumer;
+    private final ByteArrayOutputStream buffer;
+    private final OutputStream output;
+    private boolean finished = false;
+    private boolean hasContent = false;
+
+    /**
+     * Constructor of ResponseContentCoalescer
+     *
+     * @param frameSize the size from which on collected content is emitted, 0 to emit every chunk directly
+     * @param compress whether the content should be gzip compressed
+     * @param frameConsumer receives the frames to send
+     */
+    ResponseContentCoalescer(int frameSize, boolean compress, Consumer<byte[]> frameConsumer) throws IOException {
+        this.frameSize = frameSize;
+        this.frameConsumer = frameConsumer;
+        this.buffer = new ByteArrayOutputStream(Math.max(frameSize, 1024));
+        this.output = compress ? new GZIPOutputStream(buffer) : buffer;
+    }
+
+    /**
+     * Adds a chunk of content, emitting a frame if enough content has been collected.
+     */
+    void addContent(ByteBuffer content) throws IOException {
+        if (!content.hasRemaining()) {
+            return;
+        }
+        hasContent = true;
+        if (content.hasArray()) {
+            output.write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            content.position(content.limit());
+        } else {
+            byte[] bytes = new byte[content.remaining()];
+            content.get(bytes);
+            output.write(bytes);
+        }
+        if (buffer.size() >= frameSize && buffer.size() > 0) {
+            emit();
+        }
+    }
+
+    /**
+     * Emits the remaining content. Must be called once after the last chunk has been added.
+     */
+    void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (output instanceof GZIPOutputStream gzip) {
+            if (!hasContent) {
+                // an empty body stays empty, it must not become a gzip frame with header and trailer only
+                buffer.reset();
+                return;
+            }
+            gzip.finish();
+        }
+        if (buffer.size() > 0) {
+            emit();
+        }
+    }
+
+    private void emit() {
+        frameConsumer.accept(buffer.toByteArray());
+        buffer.reset();
+    }
+
+    /**
+     * Returns whether a response to a request with the given method and the given status may have a body. Responses
+     * without a body must not be compressed, since they would get a Content-Encoding header.
+     *
+     * @param method the method of the original request
+     * @param status the status code of the local response
+     */
+    static boolean mayHaveContent(String method, int status) {
+        return !"HEAD".equalsIgnoreCase(method) && status >= 200 && status != 204 && status != 304;
+    }
+
+    /**
+     * Returns whether a response with the given headers should be compressed before it is sent to the openHAB Cloud.
+     *
+     * @param acceptEncoding the Accept-Encoding header of the original request
+     * @param contentEncoding the Content-Encoding header of the local response
+     * @param contentType the Content-Type header of the local response
+     */
+    static boolean isCompressible(@Nullable String acceptEncoding, @Nullable String contentEncoding,
+            @Nullable String contentType) {
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip")) {
+            return false;
+        }
+        if (contentEncoding != null && !contentEncoding.isBlank() && !"identity".equalsIgnoreCase(contentEncoding)) {
+            return false;
+        }
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase();
+        return type.startsWith("text/") || type.contains("json") || type.contains("javascript")
+                || type.contains("xml") || type.contains("svg");
+    }
+}
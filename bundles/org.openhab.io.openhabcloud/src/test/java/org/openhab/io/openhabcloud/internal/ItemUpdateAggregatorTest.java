@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests cases for {@link ItemUpdateAggregator}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemUpdateAggregatorTest {
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final ScheduledFuture<?> flushJob = mock(ScheduledFuture.class);
+    private final List<String> sent = new ArrayList<>();
+    private final ItemUpdateAggregator aggregator = new ItemUpdateAggregator(scheduler, 500,
+            (itemName, itemState) -> sent.add(itemName + "=" + itemState));
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(flushJob).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private Runnable scheduledFlush(int times) {
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(times)).schedule(flush.capture(), eq(500L), eq(TimeUnit.MILLISECONDS));
+        return flush.getValue();
+    }
+
+    @Test
+    public void testUpdatesAreSentWhenTheWindowHasPassed() {
+        aggregator.add("a", "1");
+        aggregator.add("b", "1");
+        assertTrue(sent.isEmpty());
+
+        scheduledFlush(1).run();
+        assertEquals(List.of("a=1", "b=1"), sent);
+    }
+
+    @Test
+    public void testLastValueWins() {
+        aggregator.add("a", "1");
+        aggregator.add("b", "1");
+        aggregator.add("a", "2");
+        aggregator.add("a", "3");
+
+        scheduledFlush(1).run();
+        assertEquals(List.of("a=3", "b=1"), sent);
+    }
+
+    @Test
+    public void testNewWindowAfterSending() {
+        aggregator.add("a", "1");
+        scheduledFlush(1).run();
+
+        aggregator.add("a", "2");
+        Runnable flush = scheduledFlush(2);
+        assertEquals(List.of("a=1"), sent);
+
+        flush.run();
+        assertEquals(List.of("a=1", "a=2"), sent);
+    }
+
+    @Test
+    public void testDisposeDiscardsUpdates() {
+        aggregator.add("a", "1");
+        Runnable flush = scheduledFlush(1);
+
+        aggregator.dispose();
+        verify(flushJob).cancel(false);
+        flush.run();
+        assertTrue(sent.isEmpty());
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link ResponseContentCoalescer}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ResponseContentCoalescerTest {
+    private final List<byte[]> frames = new ArrayList<>();
+
+    private static ByteBuffer chunk(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] allFrames() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        frames.forEach(output::writeBytes);
+        return output.toByteArray();
+    }
+
+    @Test
+    public void testChunksAreCollectedUntilFrameSize() throws IOException {
+        ResponseContentCoalescer coalescer = new ResponseContentCoalescer(10, false, frames::add);
+        coalescer.addContent(chunk("1234"));
+        coalescer.addContent(chunk("5678"));
+        assertTrue(frames.isEmpty());
+
+        coalescer.addContent(chunk("90ab"));
+        assertEquals(1, frames.size());
+        assertEquals("1234567890ab", new String(frames.get(0), StandardCharsets.UTF_8));
+
+        coalescer.addContent(chunk("cd"));
+        coalescer.finish();
+        assertEquals(2, frames.size());
+        assertEquals("cd", new String(frames.get(1), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testChunksAreEmittedDirectlyWithoutFrameSize() throws IOException {
+        ResponseContentCoalescer coalescer = new ResponseContentCoalescer(0, false, frames::add);
+        coalescer.addContent(chunk("12"));
+        coalescer.addContent(chunk("34"));
+        coalescer.finish();
+        assertEquals(2, frames.size());
+    }
+
+    @Test
+    public void testCompressedContent() throws IOException {
+        String content = "{\"state\":\"ON\"}".repeat(100);
+        ResponseContentCoalescer coalescer = new ResponseContentCoalescer(16, true, frames::add);
+        coalescer.addContent(chunk(content.substring(0, 700)));
+        coalescer.addContent(chunk(content.substring(700)));
+        coalescer.finish();
+
+        byte[] compressed = allFrames();
+        assertTrue(compressed.length < content.length());
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals(content, new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testEmptyBodyIsNotFramed() throws IOException {
+        ResponseContentCoalescer compressing = new ResponseContentCoalescer(0, true, frames::add);
+        compressing.addContent(ByteBuffer.allocate(0));
+        compressing.finish();
+        assertTrue(frames.isEmpty());
+
+        ResponseContentCoalescer plain = new ResponseContentCoalescer(1024, false, frames::add);
+        plain.finish();
+        assertTrue(frames.isEmpty());
+    }
+
+    @Test
+    public void testFinishIsIdempotent() throws IOException {
+        ResponseContentCoalescer coalescer = new ResponseContentCoalescer(1024, false, frames::add);
+        coalescer.addContent(chunk("abc"));
+        coalescer.finish();
+        coalescer.finish();
+        assertEquals(1, frames.size());
+    }
+
+    @Test
+    public void testResponsesWithoutBody() {
+        assertTrue(ResponseContentCoalescer.mayHaveContent("GET", 200));
+        assertTrue(ResponseContentCoalescer.mayHaveContent("POST", 404));
+        assertFalse(ResponseContentCoalescer.mayHaveContent("HEAD", 200));
+        assertFalse(ResponseContentCoalescer.mayHaveContent("GET", 101));
+        assertFalse(ResponseContentCoalescer.mayHaveContent("GET", 204));
+        assertFalse(ResponseContentCoalescer.mayHaveContent("GET", 304));
+    }
+
+    @Test
+    public void testCompressibleResponses() {
+        assertTrue(ResponseContentCoalescer.isCompressible("gzip, deflate", null, "application/json"));
+        assertTrue(ResponseContentCoalescer.isCompressible("GZIP", "identity", "text/html; charset=UTF-8"));
+        assertFalse(ResponseContentCoalescer.isCompressible(null, null, "application/json"));
+        assertFalse(ResponseContentCoalescer.isCompressible("gzip", "br", "application/json"));
+        assertFalse(ResponseContentCoalescer.isCompressible("gzip", null, "image/png"));
+        assertFalse(ResponseContentCoalescer.isCompressible("gzip", null, null));
+    }
+}
@@ -36,6 +36,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemFactory;
 import org.openhab.core.items.ItemRegistry;
@@ -69,6 +70,10 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * This is the implementation of the InfluxDB {@link PersistenceService}. It
  * persists item values using the <a href="http://influxdb.org">InfluxDB</a> time
@@ -101,6 +106,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private static final int COMMIT_INTERVAL = 3; // in s
     protected static final String CONFIG_URI = "persistence:influxdb";
 
+    private static final String METRIC_QUEUE_SIZE = "openhab.persistence.queue.size";
+    private static final String METRIC_STORED_POINTS = "openhab.persistence.stored";
+    private static final String METRIC_TAG_SERVICE = "service";
+
     // External dependencies
     private final ItemRegistry itemRegistry;
     private final InfluxDBMetadataService influxDBMetadataService;
@@ -113,6 +122,9 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final ScheduledFuture<?> storeJob;
     private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
 
+    // metrics
+    private volatile @Nullable Metrics metrics;
+
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
     private Map<String, Class<? extends State>> desiredClasses = new HashMap<>();
@@ -289,6 +301,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 influxDBRepository.disconnect();
             } else {
                 logger.trace("Wrote {} elements to database", points.size());
+                Metrics localMetrics = metrics;
+                if (localMetrics != null) {
+                    localMetrics.storedPoints().increment(points.size());
+                }
             }
         }
     }
@@ -351,6 +367,35 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         });
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getOHMeterRegistry();
+        metrics = new Metrics(meterRegistry,
+                Gauge.builder(METRIC_QUEUE_SIZE, pointsQueue, BlockingQueue::size)
+                        .description("Number of points waiting to be written").tag(METRIC_TAG_SERVICE, SERVICE_NAME)
+                        .register(meterRegistry),
+                Counter.builder(METRIC_STORED_POINTS).description("Number of points written")
+                        .tag(METRIC_TAG_SERVICE, SERVICE_NAME).register(meterRegistry));
+    }
+
+    public void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        Metrics localMetrics = metrics;
+        metrics = null;
+        if (localMetrics != null) {
+            localMetrics.remove();
+        }
+    }
+
+    /**
+     * The meters of this service and the registry they are registered with
+     */
+    private record Metrics(MeterRegistry registry, Gauge queueSize, Counter storedPoints) {
+        void remove() {
+            registry.remove(queueSize);
+            registry.remove(storedPoints);
+        }
+    }
+
     @Reference(cardinality = ReferenceCardinality.AT_LEAST_ONE, policy = ReferencePolicy.DYNAMIC)
     public void setItemFactory(ItemFactory itemFactory) {
         itemFactories.add(itemFactory);
@@ -21,8 +21,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -30,6 +30,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -54,9 +55,15 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This is the implementation of the JDBC {@link PersistenceService}.
  *
@@ -74,9 +81,16 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     private final ItemRegistry itemRegistry;
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
+    private static final String METRIC_QUEUE_SIZE = "openhab.persistence.queue.size";
+    private static final String METRIC_STORE_TIME = "openhab.persistence.store.time";
+    private static final String METRIC_TAG_SERVICE = "service";
+
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    // metrics
+    private volatile @Nullable Metrics metrics;
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -124,6 +138,35 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         initialized = false;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getOHMeterRegistry();
+        metrics = new Metrics(meterRegistry,
+                Gauge.builder(METRIC_QUEUE_SIZE, scheduler, executor -> executor.getQueue().size())
+                        .description("Number of values waiting to be stored")
+                        .tag(METRIC_TAG_SERVICE, JdbcPersistenceServiceConstants.SERVICE_ID).register(meterRegistry),
+                Timer.builder(METRIC_STORE_TIME).description("Time needed to store a value in the database")
+                        .tag(METRIC_TAG_SERVICE, JdbcPersistenceServiceConstants.SERVICE_ID).register(meterRegistry));
+    }
+
+    public void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        Metrics localMetrics = metrics;
+        metrics = null;
+        if (localMetrics != null) {
+            localMetrics.remove();
+        }
+    }
+
+    /**
+     * The meters of this service and the registry they are registered with
+     */
+    private record Metrics(MeterRegistry registry, Gauge queueSize, Timer storeTime) {
+        void remove() {
+            registry.remove(queueSize);
+            registry.remove(storeTime);
+        }
+    }
+
     @Override
     public String getId() {
         logger.debug("JDBC::getName: returning name 'jdbc' for queryable persistence service.");
@@ -170,11 +213,16 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             return;
         }
         try {
-            long timerStart = System.currentTimeMillis();
+            long timerStart = System.nanoTime();
             storeItemValue(item, state, date);
+            long storeTime = System.nanoTime() - timerStart;
+            Metrics localMetrics = metrics;
+            if (localMetrics != null) {
+                localMetrics.storeTime().record(storeTime, TimeUnit.NANOSECONDS);
+            }
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
-                        new Date(), System.currentTimeMillis() - timerStart);
+                        new Date(), TimeUnit.NANOSECONDS.toMillis(storeTime));
             }
         } catch (JdbcException e) {
             logger.warn("JDBC::store: Unable to store item", e);
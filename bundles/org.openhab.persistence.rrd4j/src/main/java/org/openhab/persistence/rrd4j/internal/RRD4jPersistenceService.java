@@ -45,6 +45,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -78,6 +79,8 @@ import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.rrd4j.ConsolFun;
 import org.rrd4j.DsType;
 import org.rrd4j.core.FetchData;
@@ -90,6 +93,9 @@ import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * This is the implementation of the RRD4j {@link PersistenceService}. To learn
  * more about RRD4j please visit their
@@ -132,6 +138,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final String DATASOURCE_STATE = "state";
 
+    private static final String METRIC_QUEUE_SIZE = "openhab.persistence.queue.size";
+    private static final String METRIC_TAG_SERVICE = "service";
+
     private static final Path DB_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "rrd4j").toAbsolutePath();
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
@@ -140,6 +149,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private final ItemRegistry itemRegistry;
     private boolean active = false;
 
+    // metrics
+    private volatile @Nullable Metrics metrics;
+
     public static Path getDatabasePath(String name) {
         return DB_FOLDER.resolve(name + ".rrd");
     }
@@ -275,6 +287,32 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         doStore(true);
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getOHMeterRegistry();
+        metrics = new Metrics(meterRegistry,
+                Gauge.builder(METRIC_QUEUE_SIZE, storageMap, ConcurrentSkipListMap::size)
+                        .description("Number of values waiting to be stored").tag(METRIC_TAG_SERVICE, SERVICE_ID)
+                        .register(meterRegistry));
+    }
+
+    public void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        Metrics localMetrics = metrics;
+        metrics = null;
+        if (localMetrics != null) {
+            localMetrics.remove();
+        }
+    }
+
+    /**
+     * The meters of this service and the registry they are registered with
+     */
+    private record Metrics(MeterRegistry registry, Gauge queueSize) {
+        void remove() {
+            registry.remove(queueSize);
+        }
+    }
+
     @Override
     public String getId() {
         return SERVICE_ID;
@@ -458,6 +458,58 @@ public class ModbusPollerThingHandlerTest extends AbstractModbusOSGiTest {
         verifyNoMoreInteractions(child2);
     }
 
+    @Test
+    public void testUnchangedRegistersNotPassedToChildDataThings()
+            throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+        PollTask pollTask = Mockito.mock(PollTask.class);
+        doReturn(pollTask).when(comms).registerRegularPoll(notNull(), eq(150l), eq(0L), notNull(), notNull());
+
+        Configuration pollerConfig = new Configuration();
+        pollerConfig.put("refresh", 150L);
+        pollerConfig.put("start", 5);
+        pollerConfig.put("length", 2);
+        pollerConfig.put("type", "holding");
+        pollerConfig.put("updateUnchangedEvery", 2);
+        poller = createPollerThingBuilder("poller").withConfiguration(pollerConfig).withBridge(endpoint.getUID())
+                .build();
+        addThing(poller);
+        verifyEndpointBasicInitInteraction();
+
+        assertThat(poller.getStatus(), is(equalTo(ThingStatus.ONLINE)));
+
+        ArgumentCaptor<ModbusReadCallback> callbackCapturer = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        verify(comms).registerRegularPoll(notNull(), eq(150l), eq(0L), callbackCapturer.capture(), notNull());
+        ModbusReadCallback readCallback = callbackCapturer.getValue();
+
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        AsyncModbusReadResult result = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2));
+
+        ModbusPollerThingHandler thingHandler = (ModbusPollerThingHandler) poller.getHandler();
+        assertNotNull(thingHandler);
+
+        ModbusDataThingHandler unchangedChild = Mockito.mock(ModbusDataThingHandler.class);
+        ModbusDataThingHandler changedChild = Mockito.mock(ModbusDataThingHandler.class);
+        doReturn(false).when(unchangedChild).isReadDataChanged(any(byte[].class), any(byte[].class));
+        doReturn(true).when(changedChild).isReadDataChanged(any(byte[].class), any(byte[].class));
+        thingHandler.childHandlerInitialized(unchangedChild, Mockito.mock(Thing.class));
+        thingHandler.childHandlerInitialized(changedChild, Mockito.mock(Thing.class));
+
+        // first poll updates all children
+        readCallback.handle(result);
+        verify(unchangedChild).onReadResult(result);
+        verify(changedChild).onReadResult(result);
+
+        // second poll only updates the child whose data has changed
+        readCallback.handle(result);
+        verify(unchangedChild, times(1)).onReadResult(result);
+        verify(changedChild, times(2)).onReadResult(result);
+
+        // every second poll updates all children
+        readCallback.handle(result);
+        verify(unchangedChild, times(2)).onReadResult(result);
+        verify(changedChild, times(3)).onReadResult(result);
+    }
+
     @Test
     public void testBitsPassedToChildDataThings()
             throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {